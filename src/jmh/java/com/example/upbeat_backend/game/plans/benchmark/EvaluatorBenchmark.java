@@ -0,0 +1,45 @@
+package com.example.upbeat_backend.game.plans.benchmark;
+
+import com.example.upbeat_backend.game.plans.compiler.PlanCompilerImpl;
+import com.example.upbeat_backend.game.plans.parser.ParserImpl;
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EvaluatorBenchmark {
+    @Param({"SMALL", "NESTED", "LOOP_HEAVY", "COMMENT_HEAVY"})
+    private PlanCorpus corpus;
+
+    private Node interpreted;
+    private Node compiled;
+    private InMemoryGameEnvironment environment;
+
+    @Setup
+    public void setUp() {
+        interpreted = new ParserImpl(new TokenizerImpl(corpus.plan())).parse();
+        compiled = new PlanCompilerImpl().compile(new ParserImpl(new TokenizerImpl(corpus.plan())).parse());
+        environment = new InMemoryGameEnvironment();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetEnvironment() {
+        environment.reset();
+    }
+
+    @Benchmark
+    public Object interpreted() {
+        return interpreted.evaluate(environment);
+    }
+
+    @Benchmark
+    public Object compiled() {
+        return compiled.evaluate(environment);
+    }
+}
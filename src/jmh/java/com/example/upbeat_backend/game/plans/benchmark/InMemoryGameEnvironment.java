@@ -0,0 +1,168 @@
+package com.example.upbeat_backend.game.plans.benchmark;
+
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.runtime.GameEnvironment;
+import com.example.upbeat_backend.game.state.GameState;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game environment with no Redis and no game rules, so benchmarks measure plan execution only.
+ * Every query returns a fixed value and every command succeeds.
+ */
+public class InMemoryGameEnvironment implements GameEnvironment {
+    private final Map<String, Long> variables = new HashMap<>();
+    private long deposit;
+    private long budget;
+
+    public InMemoryGameEnvironment() {
+        reset();
+    }
+
+    @Override
+    public String getGameId() {
+        return "benchmark";
+    }
+
+    @Override
+    public void setVariable(String name, long value) {
+        variables.put(name, value);
+    }
+
+    @Override
+    public long getVariable(String name) {
+        return variables.get(name);
+    }
+
+    @Override
+    public boolean hasVariable(String name) {
+        return variables.containsKey(name);
+    }
+
+    @Override
+    public Map<String, Long> getVariables() {
+        return variables;
+    }
+
+    @Override
+    public void setVariables(Map<String, Long> values) {
+        variables.putAll(values);
+    }
+
+    @Override
+    public void reset() {
+        variables.clear();
+        variables.put("t", 0L);
+        deposit = 150;
+        budget = 10_000;
+    }
+
+    @Override
+    public GameState getGameState() {
+        return null;
+    }
+
+    @Override
+    public List<GameEvent> getEvents() {
+        return List.of();
+    }
+
+    @Override
+    public String getPlayerId() {
+        return "benchmark-player";
+    }
+
+    @Override
+    public boolean done() {
+        return true;
+    }
+
+    @Override
+    public boolean relocate() {
+        return true;
+    }
+
+    @Override
+    public boolean move(Keyword direction) {
+        budget--;
+        return true;
+    }
+
+    @Override
+    public boolean invest(long amount) {
+        budget -= amount;
+        deposit += amount;
+        return true;
+    }
+
+    @Override
+    public boolean collect(long amount) {
+        deposit -= amount;
+        budget += amount;
+        return true;
+    }
+
+    @Override
+    public boolean shoot(Keyword direction, long damage) {
+        budget -= damage;
+        return true;
+    }
+
+    @Override
+    public long opponent() {
+        return 23;
+    }
+
+    @Override
+    public long nearby(Keyword direction) {
+        return direction == Keyword.DOWNLEFT ? 205 : 0;
+    }
+
+    @Override
+    public long getRows() {
+        return 20;
+    }
+
+    @Override
+    public long getCols() {
+        return 20;
+    }
+
+    @Override
+    public long getCurrentRow() {
+        return 10;
+    }
+
+    @Override
+    public long getCurrentCol() {
+        return 10;
+    }
+
+    @Override
+    public long getBudget() {
+        return budget;
+    }
+
+    @Override
+    public long getDeposit() {
+        return deposit;
+    }
+
+    @Override
+    public long getInterest() {
+        return 5;
+    }
+
+    @Override
+    public long getMaxDeposit() {
+        return 1_000_000;
+    }
+
+    @Override
+    public long getRandom() {
+        return 421;
+    }
+}
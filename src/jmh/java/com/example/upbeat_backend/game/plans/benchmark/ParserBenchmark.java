@@ -0,0 +1,30 @@
+package com.example.upbeat_backend.game.plans.benchmark;
+
+import com.example.upbeat_backend.game.plans.parser.ParserImpl;
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserBenchmark {
+    @Param({"SMALL", "NESTED", "LOOP_HEAVY", "COMMENT_HEAVY"})
+    private PlanCorpus corpus;
+
+    private String plan;
+
+    @Setup
+    public void setUp() {
+        plan = corpus.plan();
+    }
+
+    @Benchmark
+    public Node parse() {
+        return new ParserImpl(new TokenizerImpl(plan)).parse();
+    }
+}
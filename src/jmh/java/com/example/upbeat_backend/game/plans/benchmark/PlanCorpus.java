@@ -0,0 +1,74 @@
+package com.example.upbeat_backend.game.plans.benchmark;
+
+/**
+ * Construction plans shaped like the ones players submit, used by every benchmark in this package.
+ */
+public enum PlanCorpus {
+    SMALL("""
+            t = t + 1
+            while (deposit - 100) collect 1
+            if (budget - 25) then invest 25 else done
+            move up
+            """),
+    NESTED("""
+            if (budget - 100) then {
+              if (opponent % 10 - 1) then {
+                if (nearby up) then shoot up budget / 20
+                else if (nearby upright) then shoot upright budget / 20
+                else if (nearby downright) then shoot downright budget / 20
+                else if (nearby down) then shoot down budget / 20
+                else if (nearby downleft) then shoot downleft budget / 20
+                else shoot upleft budget / 20
+              } else {
+                if ((maxdeposit - deposit) / 4) then invest (maxdeposit - deposit) / 4
+                else relocate
+              }
+            } else {
+              if (deposit) then collect deposit / 2 else move up
+            }
+            """),
+    LOOP_HEAVY("""
+            i = 0
+            total = 0
+            while (900 - i) {
+              total = total + (i * i) % 7 - i / 3
+              if (i % 50) then total = total + 1 else total = total ^ 1
+              i = i + 1
+            }
+            dir = random % 6
+            if (dir) then move up else move down
+            done
+            """),
+    COMMENT_HEAVY("""
+            # Opening: claim nearby land while the budget is healthy.
+            # The opponent distance is encoded as direction * 10 + distance,
+            # so a value below 20 means there is a rival straight up.
+            # -----------------------------------------------------------------
+            t = t + 1  # turn counter kept across turns
+            # Look for rivals first; shooting is cheaper than defending later.
+            opp = opponent
+            if (opp) then {
+              # Rival found: fire a fraction of the budget at them.
+              dir = opp / 10
+              cost = budget / 10
+              if (dir - 1) then shoot upright cost  # not straight up
+              else shoot up cost                    # straight up
+            } else {
+              # No rival in sight: grow the economy instead.
+              # Invest whatever keeps the budget above the revision cost.
+              if (budget - 200) then invest budget - 200 else collect deposit
+            }
+            # End of plan.
+            done
+            """);
+
+    private final String plan;
+
+    PlanCorpus(String plan) {
+        this.plan = plan;
+    }
+
+    public String plan() {
+        return plan;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.upbeat_backend.game.plans.benchmark;
+
+import com.example.upbeat_backend.game.model.enums.Type;
+import com.example.upbeat_backend.game.plans.tokenizer.CompactTokenizerImpl;
+import com.example.upbeat_backend.game.plans.tokenizer.Tokenizer;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenizerBenchmark {
+    @Param({"SMALL", "NESTED", "LOOP_HEAVY", "COMMENT_HEAVY"})
+    private PlanCorpus corpus;
+
+    @Param({"default", "compact"})
+    private String lexer;
+
+    private String plan;
+
+    @Setup
+    public void setUp() {
+        plan = corpus.plan();
+    }
+
+    /** Scores are plans per second; multiply by {@link #tokenCount} for tokens per second. */
+    @Benchmark
+    public int tokenize(Blackhole blackhole) {
+        Tokenizer tokenizer = newTokenizer();
+        int tokens = 0;
+        while (tokenizer.hasNextToken()) {
+            blackhole.consume(tokenizer.consumeToken());
+            tokens++;
+        }
+        return tokens;
+    }
+
+    /** Walks the tokens the way the parser mostly does, by type, without asking for their text. */
+    @Benchmark
+    public int scan(Blackhole blackhole) {
+        Tokenizer tokenizer = newTokenizer();
+        int tokens = 0;
+        while (tokenizer.hasNextToken()) {
+            Type type = tokenizer.peekType();
+            blackhole.consume(type);
+            tokenizer.consumeType(type);
+            tokens++;
+        }
+        return tokens;
+    }
+
+    private Tokenizer newTokenizer() {
+        return "compact".equals(lexer) ? new CompactTokenizerImpl(plan) : new TokenizerImpl(plan);
+    }
+
+    public static int tokenCount(PlanCorpus corpus) {
+        Tokenizer tokenizer = new TokenizerImpl(corpus.plan());
+        int tokens = 0;
+        while (tokenizer.hasNextToken()) {
+            tokenizer.consumeToken();
+            tokens++;
+        }
+        return tokens;
+    }
+}
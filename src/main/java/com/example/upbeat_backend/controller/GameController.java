@@ -4,17 +4,27 @@ import com.example.upbeat_backend.game.dto.request.GameConfigRequest;
 import com.example.upbeat_backend.game.dto.response.game.GameCreatedResponseDTO;
 import com.example.upbeat_backend.game.dto.response.game.GamePlayerResponseDTO;
 import com.example.upbeat_backend.game.dto.response.game.GameStartResponseDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritorySnapshotDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritoryStatsDTO;
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.dto.response.journal.ReplayStateDTO;
+import com.example.upbeat_backend.game.service.GameMailbox;
+import com.example.upbeat_backend.game.service.GameReplayService;
 import com.example.upbeat_backend.game.service.GameService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/game")
 @RequiredArgsConstructor
 public class GameController {
     private final GameService gameService;
+    private final GameMailbox mailbox;
+    private final GameReplayService replayService;
 
     @PostMapping("/create")
     public ResponseEntity<GameCreatedResponseDTO> createGame(@Valid @RequestBody GameConfigRequest request) {
@@ -26,13 +36,40 @@ public class GameController {
     public ResponseEntity<GamePlayerResponseDTO> addPlayerToGame(
             @PathVariable String gameId,
             @PathVariable String playerId) {
-        GamePlayerResponseDTO result = gameService.addPlayerToGame(gameId, playerId);
+        GamePlayerResponseDTO result = mailbox.call(gameId, () -> gameService.addPlayerToGame(gameId, playerId));
         return ResponseEntity.ok(result);
     }
 
     @PostMapping("/start/{gameId}")
     public ResponseEntity<GameStartResponseDTO> startGame(@PathVariable String gameId) {
-        GameStartResponseDTO result = gameService.startGame(gameId);
+        GameStartResponseDTO result = mailbox.call(gameId, () -> gameService.startGame(gameId));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/snapshot/{gameId}")
+    public ResponseEntity<TerritorySnapshotDTO> getTerritorySnapshot(@PathVariable String gameId) {
+        TerritorySnapshotDTO result = gameService.getTerritorySnapshot(gameId);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/territory-stats/{gameId}")
+    public ResponseEntity<TerritoryStatsDTO> getTerritoryStats(@PathVariable String gameId) {
+        TerritoryStatsDTO result = gameService.getTerritoryStats(gameId);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/journal/{gameId}")
+    public ResponseEntity<List<JournalEntryDTO>> getJournal(
+            @PathVariable String gameId,
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long to) {
+        List<JournalEntryDTO> result = replayService.getTurns(gameId, from, to);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/replay/{gameId}/{sequence}")
+    public ResponseEntity<ReplayStateDTO> replay(@PathVariable String gameId, @PathVariable long sequence) {
+        ReplayStateDTO result = replayService.replay(gameId, sequence);
         return ResponseEntity.ok(result);
     }
 }
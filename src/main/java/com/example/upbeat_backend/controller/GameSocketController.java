@@ -1,6 +1,7 @@
 package com.example.upbeat_backend.controller;
 
 import com.example.upbeat_backend.game.dto.response.event.ExecutionResult;
+import com.example.upbeat_backend.game.service.GameMailbox;
 import com.example.upbeat_backend.game.service.GameService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -9,37 +10,40 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @RequiredArgsConstructor
 public class GameSocketController {
     private final GameService gameService;
+    private final GameMailbox mailbox;
 
     @MessageMapping("/initial/{gameId}/{playerId}")
     @SendToUser("/queue/game.update")
-    public ExecutionResult initialPlan(
+    public CompletableFuture<ExecutionResult> initialPlan(
             @DestinationVariable String gameId,
             @DestinationVariable String playerId,
             @Payload String plan
     ) {
-        return gameService.initialPlayerPlan(gameId, playerId, plan);
+        return mailbox.submit(gameId, () -> gameService.initialPlayerPlan(gameId, playerId, plan));
     }
 
     @MessageMapping("/execute/{gameId}/{playerId}")
     @SendToUser("/queue/game.update")
-    public ExecutionResult executeNewPlan(
+    public CompletableFuture<ExecutionResult> executeNewPlan(
             @DestinationVariable String gameId,
             @DestinationVariable String playerId,
             @Payload String plan
     ) {
-        return gameService.executeNewPlan(gameId, playerId, plan);
+        return mailbox.submit(gameId, () -> gameService.executeNewPlan(gameId, playerId, plan));
     }
 
     @MessageMapping("/execute/current/{gameId}/{playerId}")
     @SendToUser("/queue/game.update")
-    public ExecutionResult executeCurrentPlan(
+    public CompletableFuture<ExecutionResult> executeCurrentPlan(
             @DestinationVariable String gameId,
             @DestinationVariable String playerId
     ) {
-        return gameService.executeCurrentPlan(gameId, playerId);
+        return mailbox.submit(gameId, () -> gameService.executeCurrentPlan(gameId, playerId));
     }
 }
@@ -15,4 +15,7 @@ public class GameInfoDTO {
     private long maxPlayers;
     private int currentTurn;
     private Timestamp lastUpdateAt;
+    private long sequence;
+    private Long seed;
+    private long randomPosition;
 }
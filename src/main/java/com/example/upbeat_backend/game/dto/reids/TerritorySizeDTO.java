@@ -3,7 +3,7 @@ package com.example.upbeat_backend.game.dto.reids;
 import lombok.Builder;
 import lombok.Data;
 
-@Builder
+@Builder(toBuilder = true)
 @Data
 public class TerritorySizeDTO {
     private int rows;
@@ -2,18 +2,22 @@ package com.example.upbeat_backend.game.dto.response.event;
 
 import com.example.upbeat_backend.game.model.enums.GameStatus;
 import com.example.upbeat_backend.game.state.region.Region;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
 import java.util.List;
 import java.util.Map;
 
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ExecutionResult(
         String gameId,
+        long sequence,
         String playerId,
         String nextPlayerId,
         GameStatus gameStatus,
         List<GameEvent> events,
         Map<String, Region> startState,
-        Map<String, Region> finalState
+        Map<String, Region> finalState,
+        Map<String, Region> changedRegions
 ) {}
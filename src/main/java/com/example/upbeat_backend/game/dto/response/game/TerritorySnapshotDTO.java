@@ -0,0 +1,15 @@
+package com.example.upbeat_backend.game.dto.response.game;
+
+import com.example.upbeat_backend.game.state.region.Region;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class TerritorySnapshotDTO {
+    private String gameId;
+    private long sequence;
+    private Map<String, Region> regions;
+}
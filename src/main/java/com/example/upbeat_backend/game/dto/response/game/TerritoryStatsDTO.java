@@ -0,0 +1,13 @@
+package com.example.upbeat_backend.game.dto.response.game;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class TerritoryStatsDTO {
+    private String gameId;
+    private Map<String, Long> ownedRegions;
+}
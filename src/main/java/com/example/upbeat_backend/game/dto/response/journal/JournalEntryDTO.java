@@ -0,0 +1,59 @@
+package com.example.upbeat_backend.game.dto.response.journal;
+
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.model.enums.JournalEntryType;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+
+/**
+ * One entry of a game's turn journal. The START entry holds every region and player as the game
+ * began; each TURN entry holds the regions and players after that turn's plan, interest included,
+ * with only the regions the turn changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JournalEntryDTO {
+    private JournalEntryType type;
+    private long sequence;
+    private int turn;
+    private String playerId;
+    private String nextPlayerId;
+    private String planHash;
+    private GameStatus gameStatus;
+    private Long seed;
+    private List<GameEvent> events;
+    private Map<String, RegionState> regions;
+    private List<PlayerState> players;
+
+    public record RegionState(long deposit, String owner) {
+    }
+
+    public record PlayerState(String id, String name, long budget, int cityCenterRow, int cityCenterCol) {
+    }
+
+    public static Map<String, RegionState> regionsOf(Map<String, Region> regions) {
+        Map<String, RegionState> states = new TreeMap<>();
+        regions.forEach((cell, region) -> states.put(cell, new RegionState(region.getDeposit(), region.getOwner())));
+        return states;
+    }
+
+    public static List<PlayerState> playersOf(List<Player> players) {
+        List<PlayerState> states = new ArrayList<>(players.size());
+        for (Player player : players) {
+            states.add(new PlayerState(player.getId(), player.getName(), player.getBudget(),
+                    player.getCityCenterRow(), player.getCityCenterCol()));
+        }
+        return states;
+    }
+}
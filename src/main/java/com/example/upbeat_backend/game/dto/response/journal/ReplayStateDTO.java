@@ -0,0 +1,21 @@
+package com.example.upbeat_backend.game.dto.response.journal;
+
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class ReplayStateDTO {
+    private String gameId;
+    private long sequence;
+    private int turn;
+    private String currentPlayerId;
+    private GameStatus gameStatus;
+    private Long seed;
+    private Map<String, JournalEntryDTO.RegionState> regions;
+    private List<JournalEntryDTO.PlayerState> players;
+}
@@ -59,4 +59,12 @@ public class GameException {
                     "PLAN_NOT_FOUND");
         }
     }
+
+    public static class JournalNotFound extends BaseException {
+        public JournalNotFound(String gameId) {
+            super("Game with ID '" + gameId + "' has no turn journal",
+                    HttpStatus.NOT_FOUND,
+                    "JOURNAL_NOT_FOUND");
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package com.example.upbeat_backend.game.metrics;
+
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.runtime.EventLog;
+import com.example.upbeat_backend.game.state.InterestSummary;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters for one construction-plan turn: Redis calls per repository operation, command and plan
+ * evaluation time, and events emitted. Redis calls made while a {@link Turn} is open on the current
+ * thread are also counted towards that turn.
+ */
+@Component
+public class GameMetrics {
+    public static final String REDIS_CALLS = "upbeat.redis.calls";
+    public static final String TURN_REDIS_CALLS = "upbeat.turn.redis.calls";
+    public static final String TURN_DURATION = "upbeat.turn.duration";
+    public static final String TURN_EVENTS = "upbeat.turn.events";
+    public static final String PLAN_EVALUATION = "upbeat.plan.evaluation";
+    public static final String COMMANDS = "upbeat.game.commands";
+    public static final String EVENTS = "upbeat.game.events";
+    public static final String INTEREST_REGIONS = "upbeat.round.interest.regions";
+    public static final String INTEREST_AMOUNT = "upbeat.round.interest.amount";
+
+    private final MeterRegistry registry;
+    private final ThreadLocal<Turn> currentTurn = new ThreadLocal<>();
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static GameMetrics noop() {
+        return new GameMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordRedisCall(String operation, long nanos, boolean success) {
+        Timer.builder(REDIS_CALLS)
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "error")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        Turn turn = currentTurn.get();
+        if (turn != null) turn.redisCalls++;
+    }
+
+    public void timeRedisCall(String operation, Runnable call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            call.run();
+            success = true;
+        } finally {
+            recordRedisCall(operation, System.nanoTime() - start, success);
+        }
+    }
+
+    public <T> T timePlan(Supplier<T> evaluation) {
+        return registry.timer(PLAN_EVALUATION).record(evaluation);
+    }
+
+    public <T> T timeCommand(String command, Supplier<T> call) {
+        return registry.timer(COMMANDS, "command", command).record(call);
+    }
+
+    public void recordEvents(List<GameEvent> events) {
+        if (events instanceof EventLog log) {
+            for (int i = 0; i < log.size(); i++) {
+                registry.counter(EVENTS, "type", log.typeAt(i).name()).increment();
+            }
+        } else {
+            for (GameEvent event : events) {
+                registry.counter(EVENTS, "type", event.eventType().name()).increment();
+            }
+        }
+        DistributionSummary.builder(TURN_EVENTS).register(registry).record(events.size());
+    }
+
+    public void recordInterest(InterestSummary summary) {
+        DistributionSummary.builder(INTEREST_REGIONS).register(registry).record(summary.regions());
+        DistributionSummary.builder(INTEREST_AMOUNT).register(registry).record(summary.totalInterest());
+    }
+
+    public Turn startTurn() {
+        Turn turn = new Turn();
+        currentTurn.set(turn);
+        return turn;
+    }
+
+    public class Turn implements AutoCloseable {
+        private final long start = System.nanoTime();
+        private long redisCalls;
+
+        public long getRedisCalls() {
+            return redisCalls;
+        }
+
+        @Override
+        public void close() {
+            registry.timer(TURN_DURATION).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            DistributionSummary.builder(TURN_REDIS_CALLS).register(registry).record(redisCalls);
+            currentTurn.remove();
+        }
+    }
+}
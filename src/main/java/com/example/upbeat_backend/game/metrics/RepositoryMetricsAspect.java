@@ -0,0 +1,29 @@
+package com.example.upbeat_backend.game.metrics;
+
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@AllArgsConstructor
+public class RepositoryMetricsAspect {
+    private final GameMetrics metrics;
+
+    @Around("execution(public * com.example.upbeat_backend.repository.RedisGameStateRepository.*(..))"
+            + " && !execution(* *.newWriteBatch(..)) && !execution(* *.setRegionFormat(..))"
+            + " && !execution(* *.setNearCacheSize(..))")
+    public Object timeRedisCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            metrics.recordRedisCall(joinPoint.getSignature().getName(), System.nanoTime() - start, success);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.upbeat_backend.game.metrics;
+
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.GameState;
+import com.example.upbeat_backend.game.state.region.Region;
+import lombok.AllArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Times the plan commands of a {@link GameState} under {@link GameMetrics#COMMANDS}, tagged by command.
+ */
+@AllArgsConstructor
+public class TimedGameState implements GameState {
+    private final GameState delegate;
+    private final GameMetrics metrics;
+
+    @Override
+    public long relocate() {
+        return metrics.timeCommand("relocate", delegate::relocate);
+    }
+
+    @Override
+    public boolean move(Keyword direction) {
+        return metrics.timeCommand("move", () -> delegate.move(direction));
+    }
+
+    @Override
+    public long invest(long amount) {
+        return metrics.timeCommand("invest", () -> delegate.invest(amount));
+    }
+
+    @Override
+    public long collect(long amount) {
+        return metrics.timeCommand("collect", () -> delegate.collect(amount));
+    }
+
+    @Override
+    public long shoot(Keyword direction, long money) {
+        return metrics.timeCommand("shoot", () -> delegate.shoot(direction, money));
+    }
+
+    @Override
+    public long opponent() {
+        return metrics.timeCommand("opponent", delegate::opponent);
+    }
+
+    @Override
+    public long nearby(Keyword direction) {
+        return metrics.timeCommand("nearby", () -> delegate.nearby(direction));
+    }
+
+    @Override
+    public Position getPosition() {
+        return delegate.getPosition();
+    }
+
+    @Override
+    public Map<String, Region> getTerritory() {
+        return delegate.getTerritory();
+    }
+
+    @Override
+    public long getRows() {
+        return delegate.getRows();
+    }
+
+    @Override
+    public long getCols() {
+        return delegate.getCols();
+    }
+
+    @Override
+    public long getCurrentRow() {
+        return delegate.getCurrentRow();
+    }
+
+    @Override
+    public long getCurrentCol() {
+        return delegate.getCurrentCol();
+    }
+
+    @Override
+    public long getBudget() {
+        return delegate.getBudget();
+    }
+
+    @Override
+    public long getDeposit() {
+        return delegate.getDeposit();
+    }
+
+    @Override
+    public long getInterest() {
+        return delegate.getInterest();
+    }
+
+    @Override
+    public long getMaxDeposit() {
+        return delegate.getMaxDeposit();
+    }
+
+    @Override
+    public long getRandom() {
+        return delegate.getRandom();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.upbeat_backend.game.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event into {@link #PINNED}, so blocking calls
+ * made while holding a monitor show up as a count and a duration per pinned park.
+ */
+@Component
+@ConditionalOnProperty(name = "game.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    public static final String PINNED = "upbeat.virtual-threads.pinned";
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${game.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.pinned = registry.timer(PINNED);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold);
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    void record(RecordedEvent event) {
+        pinned.record(event.getDuration());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.upbeat_backend.game.model.enums;
+
+import java.util.Locale;
+
+/**
+ * Which events a plan run records. {@code ACTIONS} keeps the commands that change the game,
+ * {@code INFO} adds the {@code opponent} and {@code nearby} scans, and {@code FULL} also keeps every
+ * read of a special variable such as {@code budget} or {@code random}.
+ */
+public enum EventVerbosity {
+    ACTIONS,
+    INFO,
+    FULL;
+
+    public boolean records(EventType type) {
+        return switch (type) {
+            case DONE, RELOCATE, MOVE, INVEST, COLLECT, SHOOT -> true;
+            case OPPONENT, NEARBY -> this != ACTIONS;
+            default -> this == FULL;
+        };
+    }
+
+    public static EventVerbosity of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
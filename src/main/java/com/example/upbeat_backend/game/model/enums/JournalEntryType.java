@@ -0,0 +1,6 @@
+package com.example.upbeat_backend.game.model.enums;
+
+public enum JournalEntryType {
+    START,
+    TURN
+}
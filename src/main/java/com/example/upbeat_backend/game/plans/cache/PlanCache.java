@@ -0,0 +1,78 @@
+package com.example.upbeat_backend.game.plans.cache;
+
+import com.example.upbeat_backend.game.plans.compiler.PlanCompiler;
+import com.example.upbeat_backend.game.plans.compiler.PlanCompilerImpl;
+import com.example.upbeat_backend.game.plans.parser.ParserImpl;
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.tokenizer.CompactTokenizerImpl;
+import com.example.upbeat_backend.game.plans.tokenizer.Tokenizer;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import com.example.upbeat_backend.util.LruCache;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Component
+public class PlanCache {
+    private final LruCache<String, Node> plans;
+    private final PlanCompiler compiler;
+    private final boolean compactTokenizer;
+
+    public PlanCache(int maxSize) {
+        this(maxSize, false, false);
+    }
+
+    @Autowired
+    public PlanCache(@Value("${game.plan-cache.max-size:512}") int maxSize,
+                     @Value("${game.plan-compiler.enabled:true}") boolean compile,
+                     @Value("${game.plan-tokenizer.compact:true}") boolean compactTokenizer) {
+        this.plans = new LruCache<>(maxSize);
+        this.compiler = compile ? new PlanCompilerImpl() : null;
+        this.compactTokenizer = compactTokenizer;
+    }
+
+    public Node getOrParse(@NotNull String plan) {
+        return plans.getOrLoad(hash(plan), key -> parse(plan));
+    }
+
+    public void invalidateAll() {
+        plans.clear();
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    public long getHits() {
+        return plans.getHits();
+    }
+
+    public long getMisses() {
+        return plans.getMisses();
+    }
+
+    public long getEvictions() {
+        return plans.getEvictions();
+    }
+
+    private Node parse(String plan) {
+        Tokenizer tokenizer = compactTokenizer ? new CompactTokenizerImpl(plan) : new TokenizerImpl(plan);
+        Node node = new ParserImpl(tokenizer).parse();
+        return compiler != null ? compiler.compile(node) : node;
+    }
+
+    public static String hash(@NotNull String plan) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(plan.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
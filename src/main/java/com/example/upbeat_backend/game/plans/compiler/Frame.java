@@ -0,0 +1,56 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.exception.parser.ParserException;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Variables of one plan run, held in a {@code long[]} indexed by the slots from {@link SlotResolver}.
+ * Filled from the stored variables before the run and written back, changed slots only, after it.
+ */
+public class Frame {
+    private final String[] names;
+    private final long[] values;
+    private final BitSet defined;
+    private final BitSet changed;
+
+    public Frame(String[] names) {
+        this.names = names;
+        this.values = new long[names.length];
+        this.defined = new BitSet(names.length);
+        this.changed = new BitSet(names.length);
+    }
+
+    public void load(Map<String, Long> variables) {
+        for (int slot = 0; slot < names.length; slot++) {
+            Long value = variables.get(names[slot]);
+            if (value != null) {
+                values[slot] = value;
+                defined.set(slot);
+            }
+        }
+    }
+
+    public long get(int slot) {
+        if (!defined.get(slot)) {
+            throw new ParserException.UnknownIdentifier(names[slot]);
+        }
+        return values[slot];
+    }
+
+    public void set(int slot, long value) {
+        values[slot] = value;
+        defined.set(slot);
+        changed.set(slot);
+    }
+
+    public Map<String, Long> changes() {
+        Map<String, Long> result = new HashMap<>();
+        for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+            result.put(names[slot], values[slot]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+
+public interface PlanCompiler {
+    Node compile(Node plan);
+}
@@ -0,0 +1,280 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.exception.parser.ParserException;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.model.enums.Operator;
+import com.example.upbeat_backend.game.plans.parser.ast.Expression;
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.BinaryExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.IdentifierExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.NumberExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.SpecialExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.info.NearbyExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.info.OpponentExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.plan.PlanNode;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.BlockStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.IfStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.WhileStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.AssignmentStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.action.*;
+import com.example.upbeat_backend.game.runtime.Environment;
+import com.example.upbeat_backend.game.runtime.GameEnvironment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a parsed plan into a tree of closures specialised per node type and operator, so
+ * evaluation no longer dispatches on the operator or re-checks constants on every visit.
+ * Constant sub-expressions are folded, except where folding would move an error
+ * (division by zero, unsupported operators) from run time to compile time.
+ * Variables are resolved to {@link Frame} slots, so a run reads and writes the stored
+ * variables once instead of on every access.
+ */
+public class PlanCompilerImpl implements PlanCompiler {
+    private static final int MAX_ITERATIONS = 1000;
+
+    private interface Code {
+        Object run(Environment env, Frame frame);
+    }
+
+    private interface NumberCode {
+        long run(Environment env, Frame frame);
+    }
+
+    private record Constant(long value) implements NumberCode {
+        @Override
+        public long run(Environment env, Frame frame) {
+            return value;
+        }
+    }
+
+    private record CompiledPlan(Code root, String[] slots) implements Node {
+        @Override
+        public Object evaluate(Environment env) {
+            Frame frame = new Frame(slots);
+            if (slots.length > 0) frame.load(env.getVariables());
+            try {
+                return root.run(env, frame);
+            } finally {
+                Map<String, Long> changes = frame.changes();
+                if (!changes.isEmpty()) env.setVariables(changes);
+            }
+        }
+    }
+
+    @Override
+    public Node compile(Node plan) {
+        SlotResolver resolver = SlotResolver.resolve(plan);
+        Code root = plan instanceof PlanNode planNode
+                ? compileSequence(planNode.statements(), resolver)
+                : compileStatement(plan, resolver);
+        return new CompiledPlan(root, resolver.names());
+    }
+
+    private Code compileStatement(Node node, SlotResolver slots) {
+        return switch (node) {
+            case BlockStatement block -> compileSequence(block.getStatements(), slots);
+            case IfStatement ifStatement -> compileIf(ifStatement, slots);
+            case WhileStatement whileStatement -> compileWhile(whileStatement, slots);
+            case AssignmentStatement assignment -> compileAssignment(assignment, slots);
+            case MoveCommand move -> compileMove(move.getDirection());
+            case InvestCommand invest -> compileInvest(compileExpression(invest.getExpression(), slots));
+            case CollectCommand collect -> compileCollect(compileExpression(collect.getExpression(), slots));
+            case ShootCommand shoot -> compileShoot(shoot.getDirection(), compileExpression(shoot.getExpression(), slots));
+            case DoneCommand ignored -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.done() : null;
+            case RelocateCommand ignored -> (env, frame) -> {
+                if (env instanceof GameEnvironment gameEnv) {
+                    gameEnv.relocate();
+                    return gameEnv.relocate();
+                }
+                return null;
+            };
+            case Expression expression -> {
+                NumberCode code = compileExpression(expression, slots);
+                yield (env, frame) -> code.run(env, frame);
+            }
+            default -> (env, frame) -> node.evaluate(env);
+        };
+    }
+
+    private Code compileSequence(List<? extends Node> statements, SlotResolver slots) {
+        Code[] compiled = new Code[statements.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compileStatement(statements.get(i), slots);
+        }
+
+        if (compiled.length == 0) return (env, frame) -> null;
+        if (compiled.length == 1) return compiled[0];
+        return (env, frame) -> {
+            Object result = null;
+            for (Code statement : compiled) {
+                result = statement.run(env, frame);
+            }
+            return result;
+        };
+    }
+
+    private Code compileIf(IfStatement ifStatement, SlotResolver slots) {
+        NumberCode condition = compileExpression(ifStatement.getCondition(), slots);
+        Code trueBranch = compileStatement(ifStatement.getTrueBranch(), slots);
+        Code falseBranch = compileStatement(ifStatement.getFalseBranch(), slots);
+
+        if (condition instanceof Constant constant) {
+            return constant.value() > 0 ? trueBranch : falseBranch;
+        }
+        return (env, frame) -> condition.run(env, frame) > 0 ? trueBranch.run(env, frame) : falseBranch.run(env, frame);
+    }
+
+    private Code compileWhile(WhileStatement whileStatement, SlotResolver slots) {
+        NumberCode condition = compileExpression(whileStatement.getCondition(), slots);
+        Code body = compileStatement(whileStatement.getBody(), slots);
+
+        if (condition instanceof Constant constant && constant.value() <= 0) {
+            return (env, frame) -> null;
+        }
+        return (env, frame) -> {
+            Object result = null;
+            int iterationCount = 0;
+
+            while (condition.run(env, frame) > 0 && iterationCount < MAX_ITERATIONS) {
+                iterationCount++;
+                result = body.run(env, frame);
+            }
+
+            if (iterationCount >= MAX_ITERATIONS) {
+                throw new ParserException.InfiniteLoop();
+            }
+            return result;
+        };
+    }
+
+    private Code compileAssignment(AssignmentStatement assignment, SlotResolver slots) {
+        int slot = slots.slotOf(assignment.variableName());
+        NumberCode expression = compileExpression(assignment.expression(), slots);
+        return (env, frame) -> {
+            long value = expression.run(env, frame);
+            frame.set(slot, value);
+            return value;
+        };
+    }
+
+    private Code compileMove(Keyword direction) {
+        return (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.move(direction) : null;
+    }
+
+    private Code compileInvest(NumberCode amount) {
+        return (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.invest(amount.run(env, frame)) : null;
+    }
+
+    private Code compileCollect(NumberCode amount) {
+        return (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.collect(amount.run(env, frame)) : null;
+    }
+
+    private Code compileShoot(Keyword direction, NumberCode damage) {
+        return (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.shoot(direction, damage.run(env, frame)) : null;
+    }
+
+    private NumberCode compileExpression(Expression expression, SlotResolver slots) {
+        return switch (expression) {
+            case NumberExpression number -> new Constant(number.getValue());
+            case BinaryExpression binary -> compileBinary(binary, slots);
+            case IdentifierExpression identifier -> compileIdentifier(slots.slotOf(identifier.getVariableName()));
+            case SpecialExpression special -> compileSpecial(special);
+            case OpponentExpression ignored -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.opponent() : -1;
+            case NearbyExpression nearby -> compileNearby(nearby.getKeyword());
+            default -> (env, frame) -> expression.evaluateNumber(env);
+        };
+    }
+
+    private NumberCode compileIdentifier(int slot) {
+        return (env, frame) -> frame.get(slot);
+    }
+
+    private NumberCode compileSpecial(SpecialExpression special) {
+        return switch (special.getSpecial()) {
+            case ROWS -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getRows() : -1;
+            case COLS -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getCols() : -1;
+            case CURROW -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getCurrentRow() : -1;
+            case CURCOL -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getCurrentCol() : -1;
+            case BUDGET -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getBudget() : -1;
+            case DEPOSIT -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getDeposit() : -1;
+            case INT -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getInterest() : -1;
+            case MAXDEPOSIT -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getMaxDeposit() : -1;
+            case RANDOM -> (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.getRandom() : -1;
+        };
+    }
+
+    private NumberCode compileNearby(Keyword direction) {
+        return (env, frame) -> env instanceof GameEnvironment gameEnv ? gameEnv.nearby(direction) : -1;
+    }
+
+    private NumberCode compileBinary(BinaryExpression binary, SlotResolver slots) {
+        NumberCode left = compileExpression(binary.getLeft(), slots);
+        NumberCode right = compileExpression(binary.getRight(), slots);
+        Operator operator = binary.getOperator();
+
+        if (left instanceof Constant l && right instanceof Constant r && isFoldable(operator, r.value())) {
+            return new Constant(apply(operator, l.value(), r.value()));
+        }
+        if (right instanceof Constant r && isFoldable(operator, r.value())) {
+            return compileWithConstantRight(left, operator, r.value());
+        }
+
+        return switch (operator) {
+            case PLUS -> (env, frame) -> left.run(env, frame) + right.run(env, frame);
+            case MINUS -> (env, frame) -> left.run(env, frame) - right.run(env, frame);
+            case MULTIPLY -> (env, frame) -> left.run(env, frame) * right.run(env, frame);
+            case DIVIDE -> (env, frame) -> {
+                long leftValue = left.run(env, frame);
+                long rightValue = right.run(env, frame);
+                if (rightValue == 0) throw new ParserException.DivisionByZero();
+                return leftValue / rightValue;
+            };
+            case MOD -> (env, frame) -> {
+                long leftValue = left.run(env, frame);
+                long rightValue = right.run(env, frame);
+                if (rightValue == 0) throw new ParserException.DivisionByZero();
+                return leftValue % rightValue;
+            };
+            case CARET -> (env, frame) -> (long) Math.pow(left.run(env, frame), right.run(env, frame));
+            default -> (env, frame) -> {
+                left.run(env, frame);
+                right.run(env, frame);
+                throw new ParserException.CannotUseOperator(operator.getSymbol());
+            };
+        };
+    }
+
+    private NumberCode compileWithConstantRight(NumberCode left, Operator operator, long right) {
+        return switch (operator) {
+            case PLUS -> (env, frame) -> left.run(env, frame) + right;
+            case MINUS -> (env, frame) -> left.run(env, frame) - right;
+            case MULTIPLY -> (env, frame) -> left.run(env, frame) * right;
+            case DIVIDE -> (env, frame) -> left.run(env, frame) / right;
+            case MOD -> (env, frame) -> left.run(env, frame) % right;
+            case CARET -> (env, frame) -> (long) Math.pow(left.run(env, frame), right);
+            default -> throw new IllegalStateException("Operator is not foldable: " + operator);
+        };
+    }
+
+    private boolean isFoldable(Operator operator, long right) {
+        return switch (operator) {
+            case PLUS, MINUS, MULTIPLY, CARET -> true;
+            case DIVIDE, MOD -> right != 0;
+            default -> false;
+        };
+    }
+
+    private long apply(Operator operator, long left, long right) {
+        return switch (operator) {
+            case PLUS -> left + right;
+            case MINUS -> left - right;
+            case MULTIPLY -> left * right;
+            case DIVIDE -> left / right;
+            case MOD -> left % right;
+            case CARET -> (long) Math.pow(left, right);
+            default -> throw new IllegalStateException("Operator is not foldable: " + operator);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.BinaryExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.expressions.IdentifierExpression;
+import com.example.upbeat_backend.game.plans.parser.ast.plan.PlanNode;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.BlockStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.IfStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.WhileStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.AssignmentStatement;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.action.CollectCommand;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.action.InvestCommand;
+import com.example.upbeat_backend.game.plans.parser.ast.statements.commands.action.ShootCommand;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns every variable named in a plan a slot in its {@link Frame}, in order of first appearance.
+ */
+public class SlotResolver {
+    private final Map<String, Integer> slots = new LinkedHashMap<>();
+
+    public static SlotResolver resolve(Node plan) {
+        SlotResolver resolver = new SlotResolver();
+        resolver.visit(plan);
+        return resolver;
+    }
+
+    public int slotOf(String variableName) {
+        Integer slot = slots.get(variableName);
+        if (slot == null) {
+            throw new IllegalStateException("Variable was not resolved: " + variableName);
+        }
+        return slot;
+    }
+
+    public String[] names() {
+        return slots.keySet().toArray(new String[0]);
+    }
+
+    private void visit(Node node) {
+        switch (node) {
+            case PlanNode plan -> visitAll(plan.statements());
+            case BlockStatement block -> visitAll(block.getStatements());
+            case IfStatement ifStatement -> {
+                visit(ifStatement.getCondition());
+                visit(ifStatement.getTrueBranch());
+                visit(ifStatement.getFalseBranch());
+            }
+            case WhileStatement whileStatement -> {
+                visit(whileStatement.getCondition());
+                visit(whileStatement.getBody());
+            }
+            case AssignmentStatement assignment -> {
+                define(assignment.variableName());
+                visit(assignment.expression());
+            }
+            case InvestCommand invest -> visit(invest.getExpression());
+            case CollectCommand collect -> visit(collect.getExpression());
+            case ShootCommand shoot -> visit(shoot.getExpression());
+            case BinaryExpression binary -> {
+                visit(binary.getLeft());
+                visit(binary.getRight());
+            }
+            case IdentifierExpression identifier -> define(identifier.getVariableName());
+            default -> {
+            }
+        }
+    }
+
+    private void visitAll(List<? extends Node> nodes) {
+        for (Node node : nodes) {
+            visit(node);
+        }
+    }
+
+    private void define(String variableName) {
+        slots.putIfAbsent(variableName, slots.size());
+    }
+}
@@ -5,7 +5,9 @@ import com.example.upbeat_backend.game.model.enums.Operator;
 import com.example.upbeat_backend.game.plans.parser.ast.Expression;
 import com.example.upbeat_backend.game.runtime.Environment;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
+@Getter
 @AllArgsConstructor
 public class BinaryExpression implements Expression {
     private final Expression left;
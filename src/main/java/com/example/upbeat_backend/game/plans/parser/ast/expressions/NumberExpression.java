@@ -3,7 +3,9 @@ package com.example.upbeat_backend.game.plans.parser.ast.expressions;
 import com.example.upbeat_backend.game.plans.parser.ast.Expression;
 import com.example.upbeat_backend.game.runtime.Environment;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
+@Getter
 @AllArgsConstructor
 public class NumberExpression implements Expression {
     private final long value;
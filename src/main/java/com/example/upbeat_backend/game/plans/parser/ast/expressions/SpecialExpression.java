@@ -5,7 +5,9 @@ import com.example.upbeat_backend.game.plans.parser.ast.Expression;
 import com.example.upbeat_backend.game.runtime.Environment;
 import com.example.upbeat_backend.game.runtime.GameEnvironment;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
+@Getter
 @AllArgsConstructor
 public class SpecialExpression implements Expression {
     private Special special;
@@ -3,9 +3,11 @@ package com.example.upbeat_backend.game.plans.parser.ast.statements;
 import com.example.upbeat_backend.game.plans.parser.ast.Statement;
 import com.example.upbeat_backend.game.runtime.Environment;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 import java.util.List;
 
+@Getter
 @AllArgsConstructor
 public class BlockStatement implements Statement {
     private final List<Statement> statements;
@@ -4,7 +4,9 @@ import com.example.upbeat_backend.game.plans.parser.ast.Expression;
 import com.example.upbeat_backend.game.plans.parser.ast.Statement;
 import com.example.upbeat_backend.game.runtime.Environment;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
+@Getter
 @AllArgsConstructor
 public class IfStatement implements Statement {
     private final Expression condition;
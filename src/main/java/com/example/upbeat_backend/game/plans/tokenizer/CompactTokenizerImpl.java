@@ -0,0 +1,263 @@
+package com.example.upbeat_backend.game.plans.tokenizer;
+
+import com.example.upbeat_backend.game.exception.tokenizer.TokenizerException;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.model.enums.Operator;
+import com.example.upbeat_backend.game.model.enums.Special;
+import com.example.upbeat_backend.game.model.enums.Type;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Produces the same tokens as {@link TokenizerImpl} without allocating per token. The current token
+ * is kept as a type and an offset/length into the source; its text is only built when asked for,
+ * and keyword, special and operator text is the shared lexeme. Operators are found through a
+ * per-character table and keywords/specials through a perfect hash computed at class load.
+ */
+public class CompactTokenizerImpl implements Tokenizer {
+    private static final Operator[] OPERATORS_BY_CHAR = new Operator[128];
+    private static final String[] WORD_LEXEMES;
+    private static final Type[] WORD_TYPES;
+    private static final int WORD_SEED;
+    private static final int WORD_MASK;
+
+    static {
+        for (Operator op : Operator.values()) {
+            String symbol = op.getSymbol();
+            if (symbol.length() != 1 || symbol.charAt(0) >= OPERATORS_BY_CHAR.length) {
+                throw new IllegalStateException("Operator cannot be dispatched by a single char: " + symbol);
+            }
+            if (OPERATORS_BY_CHAR[symbol.charAt(0)] == null) OPERATORS_BY_CHAR[symbol.charAt(0)] = op;
+        }
+
+        int size = 64;
+        int seed = findSeed(size);
+        while (seed < 0) {
+            size <<= 1;
+            seed = findSeed(size);
+        }
+        WORD_SEED = seed;
+        WORD_MASK = size - 1;
+        WORD_LEXEMES = new String[size];
+        WORD_TYPES = new Type[size];
+        for (Keyword keyword : Keyword.values()) {
+            putWord(keyword.getLexeme(), Type.KEYWORD);
+        }
+        for (Special special : Special.values()) {
+            putWord(special.getLexeme(), Type.SPECIAL);
+        }
+    }
+
+    private final String src;
+    private int pos;
+    private Type type;
+    private int start;
+    private int end;
+    private String text;
+
+    public CompactTokenizerImpl(@NotNull String src) {
+        this.src = src;
+        this.pos = 0;
+        computeNext();
+    }
+
+    @Override
+    public boolean hasNextToken() {
+        return type != Type.EOF;
+    }
+
+    @Override
+    public Token peekToken() {
+        requireNext();
+        return new Token(text(), type, start);
+    }
+
+    @Override
+    public String peekValue() {
+        requireNext();
+        return text();
+    }
+
+    @Override
+    public Type peekType() {
+        requireNext();
+        return type;
+    }
+
+    @Override
+    public Token consumeToken() {
+        requireNext();
+        Token result = new Token(text(), type, start);
+        computeNext();
+        return result;
+    }
+
+    @Override
+    public String consume() {
+        requireNext();
+        String result = text();
+        computeNext();
+        return result;
+    }
+
+    @Override
+    public boolean consume(String value) {
+        requireNext();
+        if (matches(value)) {
+            computeNext();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean consumeType(Type type) {
+        requireNext();
+        if (this.type == type) {
+            computeNext();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int getPosition() {
+        return start;
+    }
+
+    private void requireNext() {
+        if (!hasNextToken()) {
+            throw new TokenizerException.NextNull();
+        }
+    }
+
+    private boolean matches(String value) {
+        if (text != null) return text.equals(value);
+        int length = end - start;
+        return value.length() == length && src.regionMatches(start, value, 0, length);
+    }
+
+    private String text() {
+        if (text == null) text = src.substring(start, end);
+        return text;
+    }
+
+    private void computeNext() {
+        skipWhitespaceAndComments();
+        text = null;
+        start = pos;
+
+        if (pos >= src.length()) {
+            type = Type.EOF;
+            end = pos;
+            text = "";
+            return;
+        }
+
+        char c = src.charAt(pos);
+        if (isDigit(c)) {
+            while (pos < src.length() && isDigit(src.charAt(pos))) {
+                pos++;
+            }
+            type = Type.NUMBER;
+            end = pos;
+            return;
+        }
+
+        if (isIdentifierStart(c)) {
+            while (pos < src.length() && isIdentifierPart(src.charAt(pos))) {
+                pos++;
+            }
+            end = pos;
+            classifyWord();
+            return;
+        }
+
+        Operator op = c < OPERATORS_BY_CHAR.length ? OPERATORS_BY_CHAR[c] : null;
+        if (op != null) {
+            type = Type.OPERATOR;
+            text = op.getSymbol();
+            end = ++pos;
+            return;
+        }
+
+        throw new TokenizerException.UnknownWord(Character.toString(c), pos);
+    }
+
+    private void classifyWord() {
+        int slot = hash(src, start, end, WORD_SEED) & WORD_MASK;
+        String lexeme = WORD_LEXEMES[slot];
+        int length = end - start;
+        if (lexeme != null && lexeme.length() == length && src.regionMatches(start, lexeme, 0, length)) {
+            type = WORD_TYPES[slot];
+            text = lexeme;
+        } else {
+            type = Type.IDENTIFIER;
+        }
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (pos < src.length()) {
+            char c = src.charAt(pos);
+            if (c == ' ' || c == '\n' || c == '\t' || c == '\r' || (c > 127 || c < ' ') && Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '#') {
+                skipComment();
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void skipComment() {
+        while (pos < src.length() && src.charAt(pos) != '\n') {
+            pos++;
+        }
+        if (pos < src.length()) pos++;
+    }
+
+    private static boolean isDigit(char c) {
+        return c < 128 ? c >= '0' && c <= '9' : Character.isDigit(c);
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        if (c < 128) return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+        return Character.isLetter(c);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        if (c < 128) return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static int hash(CharSequence text, int from, int to, int seed) {
+        int h = seed;
+        for (int i = from; i < to; i++) {
+            h = h * 31 + text.charAt(i);
+        }
+        return h ^ (h >>> 7);
+    }
+
+    private static int findSeed(int size) {
+        for (int seed = 1; seed < 100_000; seed++) {
+            boolean[] used = new boolean[size];
+            if (fits(Keyword.values(), seed, used) && fits(Special.values(), seed, used)) return seed;
+        }
+        return -1;
+    }
+
+    private static boolean fits(Enum<?>[] words, int seed, boolean[] used) {
+        for (Enum<?> word : words) {
+            String lexeme = word instanceof Keyword keyword ? keyword.getLexeme() : ((Special) word).getLexeme();
+            int slot = hash(lexeme, 0, lexeme.length(), seed) & (used.length - 1);
+            if (used[slot]) return false;
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private static void putWord(String lexeme, Type type) {
+        int slot = hash(lexeme, 0, lexeme.length(), WORD_SEED) & WORD_MASK;
+        WORD_LEXEMES[slot] = lexeme;
+        WORD_TYPES[slot] = type;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.upbeat_backend.game.runtime;
 
+import java.util.Map;
+
 public interface Environment {
     String getGameId();
 
@@ -9,5 +11,9 @@ public interface Environment {
 
     boolean hasVariable(String name);
 
+    Map<String, Long> getVariables();
+
+    void setVariables(Map<String, Long> variables);
+
     void reset();
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.example.upbeat_backend.game.runtime;
+
+import com.example.upbeat_backend.game.dto.response.event.EventData;
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.EventType;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Append-only list of the events of one plan run. Each event is kept as a handful of primitives in
+ * parallel arrays; the {@link GameEvent} and {@link EventData} records are only built when an
+ * element is read, which normally happens once, when the result is serialized.
+ */
+public final class EventLog extends AbstractList<GameEvent> {
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final Keyword[] KEYWORDS = Keyword.values();
+    private static final byte NO_DIRECTION = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private byte[] directions = new byte[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int[] cols = new int[INITIAL_CAPACITY];
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private final BitSet successes = new BitSet();
+    private int size;
+
+    public void append(EventType type, long value, Keyword direction, boolean success, Position position) {
+        if (size == types.length) grow();
+        types[size] = (byte) type.ordinal();
+        directions[size] = direction == null ? NO_DIRECTION : (byte) direction.ordinal();
+        values[size] = value;
+        rows[size] = position.row();
+        cols[size] = position.col();
+        timestamps[size] = System.currentTimeMillis();
+        successes.set(size, success);
+        size++;
+        modCount++;
+    }
+
+    public EventType typeAt(int index) {
+        checkIndex(index);
+        return EVENT_TYPES[types[index]];
+    }
+
+    @Override
+    public GameEvent get(int index) {
+        EventType type = typeAt(index);
+        return GameEvent.builder()
+                .eventType(type)
+                .data(dataAt(type, index))
+                .timestamp(timestamps[index])
+                .build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        successes.clear();
+        size = 0;
+        modCount++;
+    }
+
+    private EventData dataAt(EventType type, int i) {
+        Position position = new Position(rows[i], cols[i]);
+        Keyword direction = directions[i] == NO_DIRECTION ? null : KEYWORDS[directions[i]];
+        long value = values[i];
+        boolean success = successes.get(i);
+
+        return switch (type) {
+            case DONE -> new EventData.Done(success, position);
+            case RELOCATE -> new EventData.Relocate(value, success, position);
+            case MOVE -> new EventData.Move(direction, success, position);
+            case INVEST -> new EventData.Invest(value, success, position);
+            case COLLECT -> new EventData.Collect(value, success, position);
+            case SHOOT -> new EventData.Shoot(direction, value, success, position);
+            case OPPONENT -> new EventData.Opponent(value, null, success, position);
+            case NEARBY -> new EventData.Nearby(direction, value, null, success, position);
+            case ROWS -> new EventData.Rows(value, position);
+            case COLS -> new EventData.Cols(value, position);
+            case CURRENT_ROW -> new EventData.CurrentRow(value, position);
+            case CURRENT_COL -> new EventData.CurrentCol(value, position);
+            case BUDGET -> new EventData.Budget(value, position);
+            case DEPOSIT -> new EventData.Deposit(value, position);
+            case INTEREST -> new EventData.Interest(value, position);
+            case MAX_DEPOSIT -> new EventData.MaxDeposit(value, position);
+            case RANDOM -> new EventData.Random(value, position);
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        directions = Arrays.copyOf(directions, capacity);
+        values = Arrays.copyOf(values, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        cols = Arrays.copyOf(cols, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+    }
+}
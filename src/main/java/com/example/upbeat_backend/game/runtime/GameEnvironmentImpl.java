@@ -1,23 +1,37 @@
 package com.example.upbeat_backend.game.runtime;
 
-import com.example.upbeat_backend.game.dto.response.event.EventData;
 import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.model.Position;
 import com.example.upbeat_backend.game.model.enums.EventType;
+import com.example.upbeat_backend.game.model.enums.EventVerbosity;
 import com.example.upbeat_backend.game.model.enums.Keyword;
 import com.example.upbeat_backend.game.state.GameState;
 import com.example.upbeat_backend.repository.RedisGameStateRepository;
 
 import java.util.*;
 
+/**
+ * Runs game commands for one player and records them as events. Only the events allowed by the
+ * {@link EventVerbosity} are kept, in an {@link EventLog}. The cursor position is read from the game
+ * state once and then again only after a {@code move}, since no other command moves the cursor.
+ */
 public class GameEnvironmentImpl extends RedisEnvironmentImpl implements GameEnvironment {
     private final GameState gameState;
-    private final List<GameEvent> events = new ArrayList<>();
+    private final EventLog events = new EventLog();
+    private final EventVerbosity verbosity;
     private final String playerId;
+    private Position cursor;
 
     public GameEnvironmentImpl(RedisGameStateRepository repository, String gameId, GameState gameState, String playerId) {
+        this(repository, gameId, gameState, playerId, EventVerbosity.FULL);
+    }
+
+    public GameEnvironmentImpl(RedisGameStateRepository repository, String gameId, GameState gameState,
+                               String playerId, EventVerbosity verbosity) {
         super(repository, gameId, playerId);
         this.gameState = gameState;
         this.playerId = playerId;
+        this.verbosity = verbosity;
     }
 
     @Override
@@ -37,253 +51,120 @@ public class GameEnvironmentImpl extends RedisEnvironmentImpl implements GameEnv
 
     @Override
     public boolean done() {
-        EventData data = EventData.Done.builder()
-                .success(true)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.DONE, data);
-        events.add(event);
-
+        record(EventType.DONE, 0, null, true);
         return true;
     }
 
     @Override
     public boolean relocate() {
         long cost = gameState.relocate();
-
-        EventData data = EventData.Relocate.builder()
-                .cost(cost)
-                .success(cost > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.RELOCATE, data);
-        events.add(event);
-
+        record(EventType.RELOCATE, cost, null, cost > 0);
         return cost > 0;
     }
 
     @Override
     public boolean move(Keyword direction) {
         boolean result = gameState.move(direction);
-
-        EventData data = EventData.Move.builder()
-                .direction(direction)
-                .success(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.MOVE, data);
-        events.add(event);
+        cursor = null;
+        record(EventType.MOVE, 0, direction, result);
         return result;
     }
 
     @Override
     public boolean invest(long amount) {
         long cost = gameState.invest(amount);
-
-        EventData data = EventData.Invest.builder()
-                .amount(cost)
-                .success(cost > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.INVEST, data);
-        events.add(event);
-
+        record(EventType.INVEST, cost, null, cost > 0);
         return cost > 0;
     }
 
     @Override
     public boolean collect(long amount) {
         long result = gameState.collect(amount);
-
-        EventData data = EventData.Collect.builder()
-                .amount(result)
-                .success(result > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.COLLECT, data);
-        events.add(event);
-
+        record(EventType.COLLECT, result, null, result > 0);
         return result > 0;
     }
 
     @Override
     public boolean shoot(Keyword direction, long damage) {
         long cost = gameState.shoot(direction, damage);
-
-        EventData data = EventData.Shoot.builder()
-                .direction(direction)
-                .money(cost)
-                .success(cost > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.SHOOT, data);
-        events.add(event);
-
+        record(EventType.SHOOT, cost, direction, cost > 0);
         return cost > 0;
     }
 
     @Override
     public long opponent() {
         long result = gameState.opponent();
-
-        EventData data = EventData.Opponent.builder()
-                .result(result)
-                .success(result > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.OPPONENT, data);
-        events.add(event);
-
+        record(EventType.OPPONENT, result, null, result > 0);
         return result;
     }
 
     @Override
     public long nearby(Keyword direction) {
         long result = gameState.nearby(direction);
-
-        EventData data = EventData.Nearby.builder()
-                .direction(direction)
-                .result(result)
-                .success(result > 0)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.NEARBY, data);
-        events.add(event);
-
+        record(EventType.NEARBY, result, direction, result > 0);
         return result;
     }
 
     @Override
     public long getRows() {
-        long result = gameState.getRows();
-
-        EventData data = EventData.Rows.builder()
-                .row(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.ROWS, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.ROWS, gameState.getRows());
     }
 
     @Override
     public long getCols() {
-        long result = gameState.getCols();
-
-        EventData data = EventData.Cols.builder()
-                .col(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.COLS, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.COLS, gameState.getCols());
     }
 
     @Override
     public long getCurrentRow() {
-        long result = gameState.getCurrentRow();
-
-        EventData data = EventData.CurrentRow.builder()
-                .currentRow(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.CURRENT_ROW, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.CURRENT_ROW, gameState.getCurrentRow());
     }
 
     @Override
     public long getCurrentCol() {
-        long result = gameState.getCurrentCol();
-
-        EventData data = EventData.CurrentCol.builder()
-                .currentCol(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.CURRENT_COL, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.CURRENT_COL, gameState.getCurrentCol());
     }
 
     @Override
     public long getBudget() {
-        long result = gameState.getBudget();
-
-        EventData data = EventData.Budget.builder()
-                .budget(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.BUDGET, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.BUDGET, gameState.getBudget());
     }
 
     @Override
     public long getDeposit() {
-        long result = gameState.getDeposit();
-
-        EventData data = EventData.Deposit.builder()
-                .deposit(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.DEPOSIT, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.DEPOSIT, gameState.getDeposit());
     }
 
     @Override
     public long getInterest() {
-        long result = gameState.getInterest();
-
-        EventData data = EventData.Interest.builder()
-                .interest(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.INTEREST, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.INTEREST, gameState.getInterest());
     }
 
     @Override
     public long getMaxDeposit() {
-        long result = gameState.getMaxDeposit();
-
-        EventData data = EventData.MaxDeposit.builder()
-                .maxDeposit(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.MAX_DEPOSIT, data);
-        events.add(event);
-
-        return result;
+        return read(EventType.MAX_DEPOSIT, gameState.getMaxDeposit());
     }
 
     @Override
     public long getRandom() {
-        long result = gameState.getRandom();
+        return read(EventType.RANDOM, gameState.getRandom());
+    }
 
-        EventData data = EventData.Random.builder()
-                .random(result)
-                .position(gameState.getPosition())
-                .build();
-        GameEvent event = createEvent(EventType.RANDOM, data);
-        events.add(event);
+    @Override
+    public void reset() {
+        super.reset();
+        events.clear();
+        cursor = null;
+    }
 
-        return result;
+    private long read(EventType eventType, long value) {
+        record(eventType, value, null, false);
+        return value;
     }
 
-    private GameEvent createEvent(EventType eventType, EventData data) {
-        return GameEvent.builder()
-                .eventType(eventType)
-                .data(data)
-                .timestamp(System.currentTimeMillis())
-                .build();
+    private void record(EventType eventType, long value, Keyword direction, boolean success) {
+        if (!verbosity.records(eventType)) return;
+        if (cursor == null) cursor = gameState.getPosition();
+        events.append(eventType, value, direction, success, cursor);
     }
 }
@@ -4,6 +4,8 @@ import com.example.upbeat_backend.game.exception.parser.ParserException;
 import com.example.upbeat_backend.repository.RedisGameStateRepository;
 import lombok.AllArgsConstructor;
 
+import java.util.Map;
+
 @AllArgsConstructor
 public class RedisEnvironmentImpl implements Environment {
     private final RedisGameStateRepository repository;
@@ -34,6 +36,16 @@ public class RedisEnvironmentImpl implements Environment {
         return repository.getPlayerVariable(gameId, playerId, name) != null;
     }
 
+    @Override
+    public Map<String, Long> getVariables() {
+        return repository.getAllPlayerVariables(gameId, playerId);
+    }
+
+    @Override
+    public void setVariables(Map<String, Long> variables) {
+        repository.setPlayerVariables(gameId, playerId, variables);
+    }
+
     @Override
     public void reset() {
         // ล้างตัวแปรทั้งหมดของผู้เล่น
@@ -0,0 +1,115 @@
+package com.example.upbeat_backend.game.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs every state-changing request for a game one at a time, in arrival order, on a virtual
+ * thread owned by that game. Different games drain their mailboxes independently, so there is no
+ * lock shared across games. A mailbox is dropped as soon as it runs empty.
+ */
+@Component
+public class GameMailbox {
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    public GameMailbox() {
+        this(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public GameMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> submit(String gameId, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Job job = new Job(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, result::completeExceptionally);
+
+        boolean[] start = new boolean[1];
+        Mailbox mailbox = mailboxes.compute(gameId, (id, current) -> {
+            if (current == null) current = new Mailbox(id);
+            current.queue.add(job);
+            if (!current.running) {
+                current.running = true;
+                start[0] = true;
+            }
+            return current;
+        });
+        if (start[0]) start(mailbox);
+        return result;
+    }
+
+    public <T> T call(String gameId, Supplier<T> task) {
+        try {
+            return submit(gameId, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    public int activeGames() {
+        return mailboxes.size();
+    }
+
+    private void start(Mailbox mailbox) {
+        try {
+            executor.execute(mailbox::drain);
+        } catch (RuntimeException e) {
+            // Nothing will drain this mailbox, so fail whatever is queued and let the next submit start over.
+            List<Job> rejected = new ArrayList<>();
+            mailboxes.computeIfPresent(mailbox.gameId, (id, current) -> {
+                if (current != mailbox) return current;
+                rejected.addAll(current.queue);
+                current.queue.clear();
+                current.running = false;
+                return null;
+            });
+            for (Job job : rejected) {
+                job.reject().accept(e);
+            }
+        }
+    }
+
+    private record Job(Runnable run, Consumer<Throwable> reject) {
+    }
+
+    private class Mailbox {
+        private final String gameId;
+        private final Queue<Job> queue = new ConcurrentLinkedQueue<>();
+        private boolean running;
+
+        private Mailbox(String gameId) {
+            this.gameId = gameId;
+        }
+
+        private void drain() {
+            while (true) {
+                Job job;
+                while ((job = queue.poll()) != null) {
+                    job.run().run();
+                }
+                Mailbox self = mailboxes.computeIfPresent(gameId, (id, mailbox) -> {
+                    if (!mailbox.queue.isEmpty()) return mailbox;
+                    mailbox.running = false;
+                    return null;
+                });
+                if (self == null) return;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.upbeat_backend.game.service;
+
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.dto.response.journal.ReplayStateDTO;
+import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.model.enums.JournalEntryType;
+import com.example.upbeat_backend.repository.TurnJournalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Rebuilds a game from its turn journal: the START entry's full state with every later turn's
+ * changes applied in order. The result only depends on the journal, so it is the same on every run.
+ */
+@Service
+@RequiredArgsConstructor
+public class GameReplayService {
+    private final TurnJournalRepository journal;
+
+    public List<JournalEntryDTO> getTurns(String gameId, long fromSequence, long toSequence) {
+        return journal.getEntries(gameId, fromSequence, toSequence);
+    }
+
+    public ReplayStateDTO replay(String gameId, long sequence) {
+        List<JournalEntryDTO> entries = journal.getEntries(gameId, 0, sequence);
+        if (entries.isEmpty() || entries.getFirst().getType() != JournalEntryType.START) {
+            throw new GameException.JournalNotFound(gameId);
+        }
+
+        JournalEntryDTO start = entries.getFirst();
+        Map<String, JournalEntryDTO.RegionState> regions = new TreeMap<>(start.getRegions());
+        Map<String, JournalEntryDTO.PlayerState> players = new LinkedHashMap<>();
+        JournalEntryDTO last = start;
+
+        for (JournalEntryDTO entry : entries) {
+            if (entry.getRegions() != null) regions.putAll(entry.getRegions());
+            if (entry.getPlayers() != null) {
+                for (JournalEntryDTO.PlayerState player : entry.getPlayers()) {
+                    players.put(player.id(), player);
+                }
+            }
+            last = entry;
+        }
+
+        return ReplayStateDTO.builder()
+                .gameId(gameId)
+                .sequence(last.getSequence())
+                .turn(last.getTurn())
+                .currentPlayerId(last.getNextPlayerId())
+                .gameStatus(last.getGameStatus())
+                .seed(start.getSeed())
+                .regions(regions)
+                .players(new ArrayList<>(players.values()))
+                .build();
+    }
+}
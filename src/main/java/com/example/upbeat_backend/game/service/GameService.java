@@ -1,5 +1,6 @@
 package com.example.upbeat_backend.game.service;
 
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
 import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
 import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
 import com.example.upbeat_backend.game.dto.response.event.ExecutionResult;
@@ -8,31 +9,91 @@ import com.example.upbeat_backend.game.dto.response.game.GameCreatedResponseDTO;
 import com.example.upbeat_backend.game.dto.response.game.GamePlayerResponseDTO;
 import com.example.upbeat_backend.game.dto.response.game.GameResultNotificationDTO;
 import com.example.upbeat_backend.game.dto.response.game.GameStartResponseDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritorySnapshotDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritoryStatsDTO;
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
 import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.metrics.GameMetrics;
+import com.example.upbeat_backend.game.metrics.TimedGameState;
+import com.example.upbeat_backend.game.model.enums.EventVerbosity;
 import com.example.upbeat_backend.game.model.enums.GameStatus;
-import com.example.upbeat_backend.game.plans.parser.Parser;
-import com.example.upbeat_backend.game.plans.parser.ParserImpl;
-import com.example.upbeat_backend.game.plans.tokenizer.Tokenizer;
-import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import com.example.upbeat_backend.game.model.enums.JournalEntryType;
+import com.example.upbeat_backend.game.plans.cache.PlanCache;
 import com.example.upbeat_backend.game.runtime.GameEnvironment;
 import com.example.upbeat_backend.game.runtime.GameEnvironmentImpl;
 import com.example.upbeat_backend.game.state.GameState;
 import com.example.upbeat_backend.game.state.GameStateImpl;
+import com.example.upbeat_backend.game.state.InMemoryGameStateImpl;
+import com.example.upbeat_backend.game.state.ScriptedGameStateImpl;
 import com.example.upbeat_backend.game.state.player.Player;
 import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.repository.GameWriteBatch;
+import com.example.upbeat_backend.repository.ReactiveRedisGameStateRepository;
+import com.example.upbeat_backend.repository.TurnJournalRepository;
 import com.example.upbeat_backend.repository.RedisGameStateRepository;
 import com.example.upbeat_backend.service.UserService;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class GameService {
     private final RedisGameStateRepository repository;
     private final UserService userService;
     private final GameNotificationService notificationService;
+    private final PlanCache planCache;
+    private final GameMetrics metrics;
+    private final TurnJournalRepository journal;
+    private boolean deltaResults;
+    private EventVerbosity eventVerbosity = EventVerbosity.FULL;
+    private boolean scriptedState;
+    private ReactiveRedisGameStateRepository reactiveRepository;
+    private boolean journalEnabled = true;
+    private Duration finishedGameTtl = Duration.ofHours(24);
+
+    @Value("${game.execution-result.mode:full}")
+    public void setResultMode(String mode) {
+        this.deltaResults = "delta".equalsIgnoreCase(mode);
+    }
+
+    @Value("${game.events.verbosity:full}")
+    public void setEventVerbosity(String verbosity) {
+        this.eventVerbosity = EventVerbosity.of(verbosity);
+    }
+
+    /**
+     * {@code memory} loads the game once per plan and writes it back in one batch; {@code scripted}
+     * runs each command as an atomic Redis script instead, for games that may be written concurrently.
+     */
+    @Value("${game.state.engine:memory}")
+    public void setStateEngine(String engine) {
+        this.scriptedState = "scripted".equalsIgnoreCase(engine);
+    }
+
+    @Value("${game.journal.enabled:true}")
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * How long a finished game's keys, including its journal, stay in Redis for results and
+     * replays. {@code 0} keeps them until they are deleted explicitly.
+     */
+    @Value("${game.redis.finished-game-ttl:24h}")
+    public void setFinishedGameTtl(Duration finishedGameTtl) {
+        this.finishedGameTtl = finishedGameTtl;
+    }
+
+    /** Present with {@code game.redis.client=reactive}; the per-turn reads are then issued concurrently. */
+    @Autowired(required = false)
+    public void setReactiveRepository(ReactiveRedisGameStateRepository reactiveRepository) {
+        this.reactiveRepository = reactiveRepository;
+    }
 
     public GameCreatedResponseDTO createGame(GameConfigDTO config, int maxPlayers) {
         String gameId = UUID.randomUUID().toString();
@@ -70,6 +131,7 @@ public class GameService {
         repository.updateGameStatus(gameId, GameStatus.IN_PROGRESS);
         initializeGameState(gameId);
         List<String> players = repository.getGamePlayers(gameId);
+        if (journalEnabled) recordStart(gameId, players);
 
         GameStartResponseDTO result =  GameStartResponseDTO.builder()
                 .gameId(gameId)
@@ -127,82 +189,181 @@ public class GameService {
     }
 
     private ExecutionResult executeConstructionPlan(String gameId, String playerId, String plan) {
-        GameState gameState = new GameStateImpl(gameId, repository, userService);
-        GameEnvironment environment = new GameEnvironmentImpl(repository, gameId, gameState, playerId);
-
-        Map<String, Region> startState = gameState.getTerritory();
-
-        Tokenizer tokenizer = new TokenizerImpl(plan);
-        Parser parser = new ParserImpl(tokenizer);
-        parser.parse().evaluate(environment);
-
-        boolean isGameFinished = checkGameResult(gameId);
+        try (GameMetrics.Turn ignored = metrics.startTurn()) {
+            InMemoryGameStateImpl memoryState = scriptedState ? null : loadMemoryState(gameId);
+            ScriptedGameStateImpl scriptState = scriptedState ? new ScriptedGameStateImpl(gameId, repository, userService) : null;
+            GameState gameState = scriptedState ? scriptState : memoryState;
+            GameEnvironment environment = new GameEnvironmentImpl(repository, gameId,
+                    new TimedGameState(gameState, metrics), playerId, eventVerbosity);
+
+            Map<String, Region> startState = deltaResults ? null : gameState.getTerritory();
+
+            boolean evaluated = false;
+            try {
+                metrics.timePlan(() -> planCache.getOrParse(plan).evaluate(environment));
+                evaluated = true;
+            } finally {
+                if (!evaluated && memoryState != null && memoryState.hasChanges()) {
+                    metrics.timeRedisCall("flush", memoryState::flush);
+                }
+            }
+
+            // Mutations of a game run one at a time through GameMailbox, so the info read here is
+            // still current when the batch below increments the sequence and advances the turn.
+            GameInfoDTO gameInfo = validateGameExists(gameId);
+            long sequence = gameInfo.getSequence() + 1;
+            GameWriteBatch batch = repository.newWriteBatch(gameId);
+            if (memoryState != null) memoryState.flushTo(batch);
+            List<Player> players = scriptedState ? scriptState.getPlayers() : memoryState.getPlayers();
+
+            String winnerId = winnerOf(players);
+            String nextPlayerId = null;
+            if (winnerId != null) {
+                batch.setGameWinner(winnerId);
+            } else {
+                nextPlayerId = nextTurn(gameId, batch, players, memoryState, scriptState);
+            }
+            GameStatus gameStatus = winnerId != null ? GameStatus.FINISHED : gameInfo.getGameStatus();
+            List<GameEvent> events = environment.getEvents();
+            metrics.recordEvents(events);
+
+            batch.incrementSequence();
+            Map<String, Region> changedRegions = !deltaResults && !journalEnabled ? null
+                    : scriptedState ? scriptState.getChangedRegions() : memoryState.getChangedRegions();
+            if (journalEnabled) {
+                // gameInfo was read before nextTurn, so this is the turn just played, not the next one.
+                recordTurn(gameId, batch, sequence, gameInfo.getCurrentTurn(), gameStatus, playerId, nextPlayerId,
+                        plan, events, changedRegions, players);
+            }
+            metrics.timeRedisCall("commitBatch", batch::commit);
+
+            if (winnerId != null) {
+                repository.evictCachedGame(gameId);
+                if (!finishedGameTtl.isZero()) repository.expireGameData(gameId, finishedGameTtl);
+                notifyGameFinished(gameId, winnerId);
+            }
+
+            ExecutionResult.ExecutionResultBuilder result = ExecutionResult.builder()
+                    .gameId(gameId)
+                    .sequence(sequence)
+                    .playerId(playerId)
+                    .nextPlayerId(nextPlayerId)
+                    .gameStatus(gameStatus)
+                    .events(events);
+            if (deltaResults) {
+                return result.changedRegions(changedRegions).build();
+            }
+            return result.startState(startState).finalState(gameState.getTerritory()).build();
+        }
+    }
 
-        String nextPlayerId = isGameFinished ? null : nextTurn(gameId);
+    private void recordStart(String gameId, List<String> playerIds) {
         GameInfoDTO gameInfo = validateGameExists(gameId);
-        GameStatus gameStatus = gameInfo.getGameStatus();
-        List<GameEvent> events = environment.getEvents();
-        Map<String, Region> finalState = gameState.getTerritory();
+        CurrentStateDTO currentState = repository.getCurrentState(gameId);
+        List<Player> players = new ArrayList<>();
+        for (String playerId : playerIds) {
+            Player player = repository.getPlayer(gameId, playerId);
+            if (player != null) players.add(player);
+        }
 
-        return ExecutionResult.builder()
-                .gameId(gameId)
+        journal.append(gameId, JournalEntryDTO.builder()
+                .type(JournalEntryType.START)
+                .sequence(gameInfo.getSequence())
+                .turn(gameInfo.getCurrentTurn())
+                .nextPlayerId(currentState == null ? null : currentState.getCurrentPlayerId())
+                .gameStatus(gameInfo.getGameStatus())
+                .seed(gameInfo.getSeed())
+                .regions(JournalEntryDTO.regionsOf(repository.getAllRegions(gameId)))
+                .players(JournalEntryDTO.playersOf(players))
+                .build());
+    }
+
+    private void recordTurn(String gameId, GameWriteBatch batch, long sequence, int turn, GameStatus gameStatus,
+                            String playerId, String nextPlayerId, String plan, List<GameEvent> events,
+                            Map<String, Region> changedRegions, List<Player> players) {
+        journal.append(batch, gameId, JournalEntryDTO.builder()
+                .type(JournalEntryType.TURN)
+                .sequence(sequence)
+                .turn(turn)
                 .playerId(playerId)
                 .nextPlayerId(nextPlayerId)
+                .planHash(journal.savePlan(batch, gameId, plan))
                 .gameStatus(gameStatus)
                 .events(events)
-                .startState(startState)
-                .finalState(finalState)
-                .build();
+                .regions(JournalEntryDTO.regionsOf(changedRegions))
+                .players(JournalEntryDTO.playersOf(players))
+                .build());
     }
 
-    private boolean checkGameResult(String gameId) {
-        List<String> remainingPlayers = repository.getPlayersWithCityCenters(gameId);
-        boolean isGameFinished = remainingPlayers.size() <= 1;
+    private InMemoryGameStateImpl loadMemoryState(String gameId) {
+        if (reactiveRepository == null) return InMemoryGameStateImpl.load(gameId, repository);
+        return InMemoryGameStateImpl.from(gameId, repository, reactiveRepository.loadSnapshot(gameId).block());
+    }
 
-        if (isGameFinished) {
-            String winnerId = remainingPlayers.isEmpty() ? "draw" : remainingPlayers.getFirst();
-            repository.setGameWinner(gameId, winnerId);
+    public TerritorySnapshotDTO getTerritorySnapshot(String gameId) {
+        validateGameExists(gameId);
+        return repository.getTerritorySnapshot(gameId);
+    }
 
-            GameInfoDTO gameInfo = validateGameExists(gameId);
-            List<String> players = repository.getGamePlayers(gameId);
+    public TerritoryStatsDTO getTerritoryStats(String gameId) {
+        validateGameExists(gameId);
+        return TerritoryStatsDTO.builder()
+                .gameId(gameId)
+                .ownedRegions(repository.getOwnedRegionCounts(gameId))
+                .build();
+    }
 
-            boolean isDraw = "draw".equals(gameInfo.getWinner());
-            GameResultNotificationDTO data = GameResultNotificationDTO.builder()
-                    .gameStatus(gameInfo.getGameStatus())
-                    .gameId(gameId)
-                    .isDraw(isDraw)
-                    .winnerId(gameInfo.getWinner())
-                    .build();
-            notificationService.gameFinished(data, players);
+    /** The winner once at most one player still has a city center, "draw" if none has, otherwise null. */
+    private static String winnerOf(List<Player> players) {
+        List<String> remainingPlayers = new ArrayList<>();
+        for (Player player : players) {
+            if (player.getCityCenterRow() >= 0 && player.getCityCenterCol() >= 0) {
+                remainingPlayers.add(player.getId());
+            }
         }
+        if (remainingPlayers.size() > 1) return null;
+        return remainingPlayers.isEmpty() ? "draw" : remainingPlayers.getFirst();
+    }
 
-        return isGameFinished;
+    private void notifyGameFinished(String gameId, String winnerId) {
+        GameResultNotificationDTO data = GameResultNotificationDTO.builder()
+                .gameStatus(GameStatus.FINISHED)
+                .gameId(gameId)
+                .isDraw("draw".equals(winnerId))
+                .winnerId(winnerId)
+                .build();
+        notificationService.gameFinished(data, repository.getGamePlayers(gameId));
     }
 
-    private String nextTurn(String gameId) {
-        List<String> players = repository.getGamePlayers(gameId);
+    private String nextTurn(String gameId, GameWriteBatch batch, List<Player> players,
+                            InMemoryGameStateImpl memoryState, ScriptedGameStateImpl scriptState) {
+        List<String> playerIds = repository.getGamePlayers(gameId);
         String currentPlayerId = repository.getCurrentState(gameId).getCurrentPlayerId();
 
-        int currentIndex = players.indexOf(currentPlayerId);
-        int nextIndex = (currentIndex + 1) % players.size();
-        String nextPlayerId = players.get(nextIndex);
+        int currentIndex = playerIds.indexOf(currentPlayerId);
+        int nextIndex = (currentIndex + 1) % playerIds.size();
+        String nextPlayerId = playerIds.get(nextIndex);
 
         boolean isNewRound = nextIndex == 0;
         if (isNewRound) {
-            calculateInterest(gameId);
-            repository.incrementTurn(gameId);
+            if (memoryState != null) {
+                metrics.recordInterest(memoryState.calculateInterest());
+                memoryState.flushTo(batch);
+            } else {
+                metrics.recordInterest(scriptState.calculateInterest());
+            }
+            batch.incrementTurn();
         }
 
-        repository.updateCurrentPlayer(gameId, nextPlayerId);
+        Player nextPlayer = null;
+        for (Player player : players) {
+            if (player.getId().equals(nextPlayerId)) nextPlayer = player;
+        }
+        batch.updateCurrentPlayer(nextPlayer != null ? nextPlayer : validatePlayerExists(gameId, nextPlayerId));
 
         return nextPlayerId;
     }
 
-    private void calculateInterest(String gameId) {
-        GameStateImpl gameState = new GameStateImpl(gameId, repository, userService);
-        gameState.calculateInterest();
-    }
-
     private GameInfoDTO validateGameExists(String gameId) {
         GameInfoDTO gameInfo = repository.getGameInfo(gameId);
         if (gameInfo == null) {
@@ -0,0 +1,59 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+
+/**
+ * A game's random numbers as a SplitMix64 stream indexed by position: the value at position n
+ * depends only on the game seed and n. Storing the seed and the next position with the game is
+ * enough to replay every {@code random} and city center placement exactly, and drawing a number
+ * allocates nothing.
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private long position;
+
+    public GameRandom(long seed, long position) {
+        this.seed = seed;
+        this.position = position;
+    }
+
+    /** Games created before seeds were stored fall back to a seed derived from their id. */
+    public static GameRandom forGame(String gameId, GameInfoDTO info) {
+        if (info == null) return new GameRandom(seedOf(gameId), 0);
+        long seed = info.getSeed() != null ? info.getSeed() : seedOf(gameId);
+        return new GameRandom(seed, info.getRandomPosition());
+    }
+
+    public static long seedOf(String gameId) {
+        return mix(gameId.hashCode());
+    }
+
+    public static long at(long seed, long position) {
+        return mix(seed + (position + 1) * GOLDEN_GAMMA);
+    }
+
+    /** Maps a stream value to {@code [0, bound)} from its high bits. */
+    public static int bounded(long value, int bound) {
+        return (int) (((value >>> 32) * bound) >>> 32);
+    }
+
+    public int nextInt(int bound) {
+        return bounded(at(seed, position++), bound);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,7 +2,6 @@ package com.example.upbeat_backend.game.state;
 
 import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
 import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
-import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
 import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
 import com.example.upbeat_backend.game.model.Position;
 import com.example.upbeat_backend.game.model.enums.Keyword;
@@ -13,15 +12,16 @@ import com.example.upbeat_backend.game.state.territory.Territory;
 import com.example.upbeat_backend.game.state.territory.TerritoryImpl;
 import com.example.upbeat_backend.repository.RedisGameStateRepository;
 import com.example.upbeat_backend.service.UserService;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
 import java.util.*;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class GameStateImpl implements GameState {
     private final String gameId;
     private final RedisGameStateRepository repository;
     private final UserService userService;
+    private GameRandom cityCenters;
 
     @Override
     public long relocate() {
@@ -170,27 +170,25 @@ public class GameStateImpl implements GameState {
         if (data.isEmpty()) return 0;
         CurrentStateDTO currentState = data.get();
 
-        List<Keyword> directions = Keyword.directions();
-        Map<Keyword, Integer> directionValues = new HashMap<>();
-        Map<Long, Keyword> results = new TreeMap<>();
+        TerritorySizeDTO territorySize = repository.getTerritorySize(gameId);
+        Territory territory = new TerritoryImpl(gameId, repository);
+        Map<String, Region> regionMap = territory.getRegionMap();
 
+        List<Keyword> directions = Keyword.directions();
+        long best = 0;
         for (int i = 0; i < directions.size(); i++) {
-            directionValues.put(directions.get(i), i + 1);
-        }
-
-        for (Keyword direction : directions) {
-            Map<Integer, Region> foundRegions = traverseDirection(direction,
+            Map<Integer, Region> foundRegions = traverseDirection(directions.get(i),
                     currentState.getCurrentRow(), currentState.getCurrentCol(),
-                    currentState.getCurrentPlayerId());
+                    currentState.getCurrentPlayerId(), territory, territorySize, regionMap);
 
             if (!foundRegions.isEmpty()) {
                 Integer distance = foundRegions.keySet().iterator().next();
-                long result = (long) directionValues.get(direction) * 10 + distance;
-                results.put(result, direction);
+                long result = (long) (i + 1) * 10 + distance;
+                if (best == 0 || result < best) best = result;
             }
         }
 
-        return results.isEmpty() ? 0 : results.keySet().iterator().next();
+        return best;
     }
 
     @Override
@@ -199,9 +197,11 @@ public class GameStateImpl implements GameState {
         if (data.isEmpty()) return 0;
         CurrentStateDTO currentState = data.get();
 
+        Territory territory = new TerritoryImpl(gameId, repository);
         Map<Integer, Region> foundRegions = traverseDirection(direction,
                 currentState.getCurrentRow(), currentState.getCurrentCol(),
-                currentState.getCurrentPlayerId());
+                currentState.getCurrentPlayerId(), territory,
+                repository.getTerritorySize(gameId), territory.getRegionMap());
 
         if (!foundRegions.isEmpty()) {
             Integer distance = foundRegions.keySet().iterator().next();
@@ -277,29 +277,30 @@ public class GameStateImpl implements GameState {
 
     @Override
     public long getRandom() {
-        Random random = new Random();
-        return random.nextInt(1000);
+        long seed = GameRandom.forGame(gameId, repository.getGameInfo(gameId)).getSeed();
+        return GameRandom.bounded(GameRandom.at(seed, repository.nextRandomPosition(gameId)), 1000);
     }
 
-    public void calculateInterest() {
+    public InterestSummary calculateInterest() {
         Territory territory = new TerritoryImpl(gameId, repository);
-        Map<String, Region> regions = territory.getRegionMap();
-
-        for (Region region : regions.values()) {
-            if (territory.isWasteland(region)) continue;
-            double percent = calculateBaseInterestPercent(region.getDeposit());
-            double interest = region.getDeposit() * percent / 100.0;
-            region.updateDeposit(Math.round(interest));
-            repository.updateRegion(gameId, region.getRow(), region.getCol(), region.getDeposit(), region.getOwner());
+        List<Region> owned = new ArrayList<>();
+        for (Region region : territory.getRegionMap().values()) {
+            if (!territory.isWasteland(region)) owned.add(region);
         }
-    }
+        if (owned.isEmpty()) return InterestSummary.NONE;
 
-    private double calculateBaseInterestPercent(long deposit) {
-        GameConfigDTO gameConfig = repository.getGameConfig(gameId);
-        long interestRate = gameConfig.getInterestPct();
-        GameInfoDTO gameInfo = repository.getGameInfo(gameId);
-        int turn = gameInfo.getCurrentTurn();
-        return interestRate * Math.log10(deposit) * Math.log(turn);
+        long interestRate = repository.getGameConfig(gameId).getInterestPct();
+        int turn = repository.getGameInfo(gameId).getCurrentTurn();
+
+        long total = 0;
+        for (Region region : owned) {
+            long deposit = region.getDeposit();
+            double percent = interestRate * Math.log10(deposit) * Math.log(turn);
+            region.updateDeposit(Math.round(deposit * percent / 100.0));
+            total += region.getDeposit() - deposit;
+        }
+        repository.updateRegions(gameId, owned);
+        return new InterestSummary(owned.size(), total);
     }
 
     public void initialize() {
@@ -329,12 +330,13 @@ public class GameStateImpl implements GameState {
                 repository.saveCurrentState(gameId, player.getId(), player.getCityCenterRow(), player.getCityCenterCol());
             }
         }
+        if (cityCenters != null) repository.updateRandomPosition(gameId, cityCenters.getPosition());
     }
 
     Position randomCityCenter(int rows, int cols) {
-        Random random = new Random();
-        int row = random.nextInt(rows) + 1;
-        int col = random.nextInt(cols) + 1;
+        if (cityCenters == null) cityCenters = GameRandom.forGame(gameId, repository.getGameInfo(gameId));
+        int row = cityCenters.nextInt(rows) + 1;
+        int col = cityCenters.nextInt(cols) + 1;
         return new Position(row, col);
     }
 
@@ -394,11 +396,9 @@ public class GameStateImpl implements GameState {
                 Math.abs(z2 - z1)));
     }
 
-    private Map<Integer, Region> traverseDirection(Keyword direction, int currentRow, int currentCol, String currentPlayerId) {
-        TerritorySizeDTO territorySize = repository.getTerritorySize(gameId);
-        Territory territory = new TerritoryImpl(gameId, repository);
-        Map<String, Region> regionMap = territory.getRegionMap();
-
+    private Map<Integer, Region> traverseDirection(Keyword direction, int currentRow, int currentCol, String currentPlayerId,
+                                                   Territory territory, TerritorySizeDTO territorySize,
+                                                   Map<String, Region> regionMap) {
         Map<Integer, Region> foundRegions = new HashMap<>();
         int crewRow = currentRow;
         int crewCol = currentCol;
@@ -0,0 +1,457 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.territory.DenseTerritoryImpl;
+import com.example.upbeat_backend.game.state.territory.HexGrid;
+import com.example.upbeat_backend.repository.GameSnapshot;
+import com.example.upbeat_backend.repository.GameWriteBatch;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+
+import java.util.*;
+
+/**
+ * Loads a game once, runs every command against primitive arrays and writes the
+ * accumulated changes back to Redis in {@link #flush()}.
+ */
+public class InMemoryGameStateImpl implements GameState {
+    private static final int NO_OWNER = DenseTerritoryImpl.NO_OWNER;
+    private static final int OFF_MAP = HexGrid.OFF_MAP;
+
+    private final String gameId;
+    private final RedisGameStateRepository repository;
+
+    private final DenseTerritoryImpl territory;
+    private final HexGrid grid;
+    private final int[] rayCells = new int[HexGrid.DIRECTIONS];
+    private final int rows;
+    private final int cols;
+    private final long maxDeposit;
+    private final int interestPct;
+    private final int currentTurn;
+    private final GameRandom random;
+    private boolean randomDirty;
+
+    private final int playerCount;
+    private final String[] playerIds;
+    private final String[] playerNames;
+    private final long[] budgets;
+    private final int[] cityCenterRows;
+    private final int[] cityCenterCols;
+    private final boolean[] dirtyPlayers;
+
+    private final int currentPlayer;
+    private int currentRow;
+    private int currentCol;
+    private boolean positionDirty;
+
+    private InMemoryGameStateImpl(String gameId, RedisGameStateRepository repository,
+                                  GameConfigDTO config, TerritorySizeDTO size, GameInfoDTO info,
+                                  List<Player> players, Map<String, Region> regions, CurrentStateDTO currentState) {
+        this.gameId = gameId;
+        this.repository = repository;
+        this.rows = size.getRows();
+        this.cols = size.getCols();
+        this.maxDeposit = config.getMaxDep();
+        this.interestPct = config.getInterestPct();
+        this.currentTurn = info.getCurrentTurn();
+        this.random = GameRandom.forGame(gameId, info);
+
+        this.playerCount = players.size();
+        this.playerIds = new String[playerCount];
+        this.playerNames = new String[playerCount];
+        this.budgets = new long[playerCount];
+        this.cityCenterRows = new int[playerCount];
+        this.cityCenterCols = new int[playerCount];
+        this.dirtyPlayers = new boolean[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            playerIds[i] = player.getId();
+            playerNames[i] = player.getName();
+            budgets[i] = player.getBudget();
+            cityCenterRows[i] = player.getCityCenterRow();
+            cityCenterCols[i] = player.getCityCenterCol();
+        }
+
+        this.territory = DenseTerritoryImpl.from(size, maxDeposit, Arrays.asList(playerIds), regions);
+        this.grid = HexGrid.of(rows, cols);
+
+        int current = territory.indexOf(currentState.getCurrentPlayerId());
+        if (current == NO_OWNER) {
+            throw new GameException.PlayerNotFound(currentState.getCurrentPlayerId());
+        }
+        this.currentPlayer = current;
+        this.currentRow = currentState.getCurrentRow();
+        this.currentCol = currentState.getCurrentCol();
+    }
+
+    public static InMemoryGameStateImpl load(String gameId, RedisGameStateRepository repository) {
+        GameInfoDTO info = repository.getGameInfo(gameId);
+        if (info == null) {
+            throw new GameException.GameNotFound(gameId);
+        }
+        GameConfigDTO config = repository.getGameConfig(gameId);
+        TerritorySizeDTO size = repository.getTerritorySize(gameId);
+
+        List<Player> players = new ArrayList<>();
+        for (String playerId : repository.getGamePlayers(gameId)) {
+            Player player = repository.getPlayer(gameId, playerId);
+            if (player != null) players.add(player);
+        }
+
+        Map<String, Region> regions = repository.getAllRegions(gameId);
+        CurrentStateDTO currentState = repository.getCurrentState(gameId);
+        if (currentState == null) {
+            throw new GameException.InvalidGameState(gameId, info.getGameStatus().name(), "IN_PROGRESS");
+        }
+
+        return new InMemoryGameStateImpl(gameId, repository, config, size, info, players, regions, currentState);
+    }
+
+    /** Builds the state from reads that were already made, e.g. concurrently by the reactive repository. */
+    public static InMemoryGameStateImpl from(String gameId, RedisGameStateRepository repository, GameSnapshot snapshot) {
+        return new InMemoryGameStateImpl(gameId, repository, snapshot.config(), snapshot.size(), snapshot.info(),
+                snapshot.players(), snapshot.regions(), snapshot.currentState());
+    }
+
+    public void flush() {
+        if (!hasChanges()) return;
+        GameWriteBatch batch = repository.newWriteBatch(gameId);
+        flushTo(batch);
+        batch.commit();
+    }
+
+    public boolean hasChanges() {
+        if (territory.hasChanges() || positionDirty || randomDirty) return true;
+        for (boolean dirty : dirtyPlayers) {
+            if (dirty) return true;
+        }
+        return false;
+    }
+
+    public void flushTo(GameWriteBatch batch) {
+        if (territory.hasChanges()) {
+            batch.updateRegions(territory.drainChanges());
+        }
+
+        for (int i = 0; i < playerCount; i++) {
+            if (!dirtyPlayers[i]) continue;
+            batch.savePlayer(new PlayerImpl(playerIds[i], playerNames[i], budgets[i], cityCenterRows[i], cityCenterCols[i]));
+            dirtyPlayers[i] = false;
+        }
+
+        if (positionDirty) {
+            batch.updateCurrentPosition(currentRow, currentCol);
+            positionDirty = false;
+        }
+
+        if (randomDirty) {
+            batch.updateRandomPosition(random.getPosition());
+            randomDirty = false;
+        }
+    }
+
+    @Override
+    public long relocate() {
+        if (!payForCommand()) return 0;
+        int here = currentCell();
+        if (!isMyRegion(here, currentPlayer)) return 0;
+
+        int centerRow = cityCenterRows[currentPlayer];
+        int centerCol = cityCenterCols[currentPlayer];
+        int distance = calculateHexDistance(centerRow, centerCol, currentRow, currentCol);
+        long cost = (5L * distance) + 10;
+
+        if (budgets[currentPlayer] < cost) return 0;
+        updateBudget(currentPlayer, -cost);
+
+        setOwner(here, currentPlayer);
+        if (isValidPosition(centerRow, centerCol)) {
+            setOwner(cellOf(centerRow, centerCol), NO_OWNER);
+        }
+        return cost;
+    }
+
+    @Override
+    public boolean move(Keyword direction) {
+        if (!payForCommand()) return false;
+        int next = grid.neighbor(currentCell(), direction);
+
+        if (next != OFF_MAP) {
+            int owner = territory.getOwner(next);
+            if (owner == NO_OWNER || owner == currentPlayer) {
+                currentRow = territory.rowOf(next);
+                currentCol = territory.colOf(next);
+                positionDirty = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long invest(long amount) {
+        if (amount <= 0) return 0;
+        if (!payForCommand()) return 0;
+        if (!isRegionSurrounded()) return 0;
+        if (budgets[currentPlayer] < amount) return 0;
+
+        int here = currentCell();
+        if (here < 0) return 0;
+        amount = Math.min(amount, maxDeposit);
+        updateBudget(currentPlayer, -amount);
+        updateDeposit(here, amount);
+        setOwner(here, currentPlayer);
+        return amount;
+    }
+
+    @Override
+    public long collect(long amount) {
+        if (amount <= 0) return 0;
+        if (!payForCommand()) return 0;
+
+        int here = currentCell();
+        if (!isMyRegion(here, currentPlayer)) return 0;
+
+        long deposit = territory.getDeposit(here);
+        if (deposit < amount) return 0;
+        else if (deposit == amount) setOwner(here, NO_OWNER);
+
+        updateBudget(currentPlayer, amount);
+        updateDeposit(here, -amount);
+        return amount;
+    }
+
+    @Override
+    public long shoot(Keyword direction, long money) {
+        if (money <= 0) return 0;
+        if (!payForCommand()) return 0;
+        if (money > budgets[currentPlayer]) return 0;
+
+        updateBudget(currentPlayer, -money);
+
+        int cell = grid.neighbor(currentCell(), direction);
+        if (cell == OFF_MAP) return money;
+
+        updateDeposit(cell, -money);
+
+        int owner = territory.getOwner(cell);
+        if (territory.getDeposit(cell) <= 0 && owner != NO_OWNER) {
+            if (owner < playerCount && cityCenterRows[owner] == territory.rowOf(cell)
+                    && cityCenterCols[owner] == territory.colOf(cell)) {
+                cityCenterRows[owner] = -1;
+                cityCenterCols[owner] = -1;
+                dirtyPlayers[owner] = true;
+                territory.clearPlayerOwnership(owner);
+            }
+            setOwner(cell, NO_OWNER);
+        }
+        return money;
+    }
+
+    @Override
+    public long opponent() {
+        if (!payForCommand()) return 0;
+
+        int here = currentCell();
+        for (int d = 0; d < HexGrid.DIRECTIONS; d++) {
+            rayCells[d] = grid.neighbor(here, d);
+        }
+
+        // Walk all six rays one ring at a time. A ray is dropped once it hits rival land or once even
+        // a hit on this ring could no longer beat the best result, so the scan stops as soon as the
+        // minimum is certain.
+        long best = 0;
+        for (int distance = 1; ; distance++) {
+            boolean active = false;
+            for (int d = 0; d < HexGrid.DIRECTIONS; d++) {
+                int cell = rayCells[d];
+                if (cell == OFF_MAP) continue;
+
+                long result = (long) (d + 1) * 10 + distance;
+                if (best != 0 && result >= best) {
+                    rayCells[d] = OFF_MAP;
+                } else if (isRivalLand(cell)) {
+                    best = result;
+                    rayCells[d] = OFF_MAP;
+                } else {
+                    rayCells[d] = grid.neighbor(cell, d);
+                    active |= rayCells[d] != OFF_MAP;
+                }
+            }
+            if (!active) return best;
+        }
+    }
+
+    @Override
+    public long nearby(Keyword direction) {
+        if (!payForCommand()) return 0;
+
+        int d = HexGrid.directionIndex(direction);
+        int distance = 1;
+        for (int cell = grid.neighbor(currentCell(), d); cell != OFF_MAP; cell = grid.neighbor(cell, d), distance++) {
+            if (isRivalLand(cell)) {
+                return (long) 100 * distance + (territory.getDeposit(cell) % 10);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public Position getPosition() {
+        return new Position(currentRow, currentCol);
+    }
+
+    @Override
+    public Map<String, Region> getTerritory() {
+        return territory.snapshot();
+    }
+
+    public Map<String, Region> getChangedRegions() {
+        return territory.touchedRegions();
+    }
+
+    public List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new PlayerImpl(playerIds[i], playerNames[i], budgets[i], cityCenterRows[i], cityCenterCols[i]));
+        }
+        return players;
+    }
+
+    @Override
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public long getCols() {
+        return cols;
+    }
+
+    @Override
+    public long getCurrentRow() {
+        return currentRow;
+    }
+
+    @Override
+    public long getCurrentCol() {
+        return currentCol;
+    }
+
+    @Override
+    public long getBudget() {
+        return budgets[currentPlayer];
+    }
+
+    @Override
+    public long getDeposit() {
+        int here = currentCell();
+        if (here < 0) return 0;
+        long deposit = territory.getDeposit(here);
+        return territory.getOwner(here) == NO_OWNER ? -deposit : deposit;
+    }
+
+    @Override
+    public long getInterest() {
+        return interestPct;
+    }
+
+    @Override
+    public long getMaxDeposit() {
+        return maxDeposit;
+    }
+
+    @Override
+    public long getRandom() {
+        randomDirty = true;
+        return random.nextInt(1000);
+    }
+
+    public InterestSummary calculateInterest() {
+        int regions = 0;
+        long total = 0;
+        for (int cell = 0; cell < territory.cellCount(); cell++) {
+            if (territory.getOwner(cell) == NO_OWNER) continue;
+            long deposit = territory.getDeposit(cell);
+            double percent = interestPct * Math.log10(deposit) * Math.log(currentTurn);
+            double interest = deposit * percent / 100.0;
+            territory.updateDeposit(cell, Math.round(interest));
+            regions++;
+            total += territory.getDeposit(cell) - deposit;
+        }
+        return new InterestSummary(regions, total);
+    }
+
+    private boolean payForCommand() {
+        if (budgets[currentPlayer] <= 0) return false;
+        budgets[currentPlayer] -= 1;
+        dirtyPlayers[currentPlayer] = true;
+        return true;
+    }
+
+    private boolean isRegionSurrounded() {
+        int here = currentCell();
+        for (int d = 0; d < HexGrid.DIRECTIONS; d++) {
+            int next = grid.neighbor(here, d);
+            if (next != OFF_MAP && isMyRegion(next, currentPlayer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMyRegion(int cell, int player) {
+        return territory.isMyRegion(cell, player);
+    }
+
+    private boolean isRivalLand(int cell) {
+        return territory.isRivalLand(cell, currentPlayer);
+    }
+
+    private void updateBudget(int player, long amount) {
+        budgets[player] = Math.max(0, budgets[player] + amount);
+        dirtyPlayers[player] = true;
+    }
+
+    private void updateDeposit(int cell, long amount) {
+        territory.updateDeposit(cell, amount);
+    }
+
+    private void setOwner(int cell, int owner) {
+        territory.setOwner(cell, owner);
+    }
+
+    private int currentCell() {
+        return isValidPosition(currentRow, currentCol) ? cellOf(currentRow, currentCol) : -1;
+    }
+
+    private int cellOf(int row, int col) {
+        return territory.cellOf(row, col);
+    }
+
+    private boolean isValidPosition(int row, int col) {
+        return territory.isValidPosition(row, col);
+    }
+
+    private int calculateHexDistance(int row1, int col1, int row2, int col2) {
+        double z1 = row1 - (col1 - (col1 & 1)) / 2.0;
+        double y1 = -(double) col1 - z1;
+
+        double z2 = row2 - (col2 - (col2 & 1)) / 2.0;
+        double y2 = -(double) col2 - z2;
+
+        return (int) (Math.max(Math.max(
+                Math.abs((double) col2 - (double) col1),
+                Math.abs(y2 - y1)),
+                Math.abs(z2 - z1)));
+    }
+}
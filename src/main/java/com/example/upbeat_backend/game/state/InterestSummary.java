@@ -0,0 +1,9 @@
+package com.example.upbeat_backend.game.state;
+
+/**
+ * Outcome of one end-of-round interest pass: how many owned regions were credited and the deposit
+ * actually added to them after the max-deposit cap.
+ */
+public record InterestSummary(int regions, long totalInterest) {
+    public static final InterestSummary NONE = new InterestSummary(0, 0);
+}
@@ -0,0 +1,150 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.repository.GameScript;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import com.example.upbeat_backend.service.UserService;
+
+import java.util.*;
+
+/**
+ * Runs every command as one atomic {@link GameScript} call, so the budget check, the region and
+ * ownership changes and the position update of a command cannot interleave with another writer.
+ * Nothing is buffered; reads go to Redis through {@link GameStateImpl}.
+ */
+public class ScriptedGameStateImpl implements GameState {
+    private final String gameId;
+    private final RedisGameStateRepository repository;
+    private final GameStateImpl reads;
+    private final Set<String> changedCells = new LinkedHashSet<>();
+
+    public ScriptedGameStateImpl(String gameId, RedisGameStateRepository repository, UserService userService) {
+        this.gameId = gameId;
+        this.repository = repository;
+        this.reads = new GameStateImpl(gameId, repository, userService);
+    }
+
+    @Override
+    public long relocate() {
+        return run(GameScript.RELOCATE);
+    }
+
+    @Override
+    public boolean move(Keyword direction) {
+        return run(GameScript.MOVE, direction.name()) != 0;
+    }
+
+    @Override
+    public long invest(long amount) {
+        if (amount <= 0) return 0;
+        return run(GameScript.INVEST, amount);
+    }
+
+    @Override
+    public long collect(long amount) {
+        if (amount <= 0) return 0;
+        return run(GameScript.COLLECT, amount);
+    }
+
+    @Override
+    public long shoot(Keyword direction, long money) {
+        if (money <= 0) return 0;
+        return run(GameScript.SHOOT, direction.name(), money);
+    }
+
+    @Override
+    public long opponent() {
+        return run(GameScript.OPPONENT);
+    }
+
+    @Override
+    public long nearby(Keyword direction) {
+        return run(GameScript.NEARBY, direction.name());
+    }
+
+    public Map<String, Region> getChangedRegions() {
+        if (changedCells.isEmpty()) return new HashMap<>();
+        return repository.getRegions(gameId, changedCells);
+    }
+
+    public InterestSummary calculateInterest() {
+        GameScript.Result result = repository.runScript(gameId, GameScript.INTEREST,
+                repository.getGameInfo(gameId).getCurrentTurn());
+        changedCells.addAll(result.changedCells());
+        if (result.changedCells().isEmpty()) return InterestSummary.NONE;
+        return new InterestSummary(result.changedCells().size(), result.value());
+    }
+
+    public List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>();
+        for (String playerId : repository.getGamePlayers(gameId)) {
+            Player player = repository.getPlayer(gameId, playerId);
+            if (player != null) players.add(player);
+        }
+        return players;
+    }
+
+    @Override
+    public Position getPosition() {
+        return reads.getPosition();
+    }
+
+    @Override
+    public Map<String, Region> getTerritory() {
+        return reads.getTerritory();
+    }
+
+    @Override
+    public long getRows() {
+        return reads.getRows();
+    }
+
+    @Override
+    public long getCols() {
+        return reads.getCols();
+    }
+
+    @Override
+    public long getCurrentRow() {
+        return reads.getCurrentRow();
+    }
+
+    @Override
+    public long getCurrentCol() {
+        return reads.getCurrentCol();
+    }
+
+    @Override
+    public long getBudget() {
+        return reads.getBudget();
+    }
+
+    @Override
+    public long getDeposit() {
+        return reads.getDeposit();
+    }
+
+    @Override
+    public long getInterest() {
+        return reads.getInterest();
+    }
+
+    @Override
+    public long getMaxDeposit() {
+        return reads.getMaxDeposit();
+    }
+
+    @Override
+    public long getRandom() {
+        return reads.getRandom();
+    }
+
+    private long run(GameScript script, Object... args) {
+        GameScript.Result result = repository.runScript(gameId, script, args);
+        changedCells.addAll(result.changedCells());
+        return result.value();
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.upbeat_backend.game.state.territory;
+
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+
+import java.util.*;
+
+/**
+ * Territory held in flat arrays indexed by {@code (row - 1) * cols + (col - 1)}, with owners
+ * interned to small ints. Cell-level methods work on those indexes directly; the {@link Region}
+ * methods hand out views that read and write the same arrays. Each owner also has a set of the
+ * cells it holds, kept in step by {@link #setOwner}, so per-owner queries never scan the board.
+ */
+public class DenseTerritoryImpl implements Territory {
+    public static final int NO_OWNER = -1;
+
+    private final int rows;
+    private final int cols;
+    private final long maxDeposit;
+
+    private final long[] deposits;
+    private final int[] owners;
+    private final BitSet storedCells;
+    private final BitSet dirtyCells;
+    private final BitSet touchedCells;
+
+    private String[] ownerIds;
+    private BitSet[] ownedCells;
+    private final Map<String, Integer> ownerIndex = new HashMap<>();
+
+    public DenseTerritoryImpl(int rows, int cols, long maxDeposit, List<String> playerIds) {
+        this.rows = rows;
+        this.cols = cols;
+        this.maxDeposit = maxDeposit;
+
+        int cells = rows * cols;
+        this.deposits = new long[cells];
+        this.owners = new int[cells];
+        this.storedCells = new BitSet(cells);
+        this.dirtyCells = new BitSet(cells);
+        this.touchedCells = new BitSet(cells);
+        Arrays.fill(owners, NO_OWNER);
+
+        this.ownerIds = new String[0];
+        this.ownedCells = new BitSet[0];
+        for (String playerId : playerIds) {
+            internOwner(playerId);
+        }
+    }
+
+    public static DenseTerritoryImpl from(TerritorySizeDTO size, long maxDeposit, List<String> playerIds,
+                                          Map<String, Region> regions) {
+        DenseTerritoryImpl territory = new DenseTerritoryImpl(size.getRows(), size.getCols(), maxDeposit, playerIds);
+        for (Region region : regions.values()) {
+            if (!territory.isValidPosition(region.getRow(), region.getCol())) continue;
+            int cell = territory.cellOf(region.getRow(), region.getCol());
+            territory.deposits[cell] = region.getDeposit();
+            int owner = territory.internOwner(region.getOwner());
+            territory.owners[cell] = owner;
+            if (owner != NO_OWNER) territory.ownedCells[owner].set(cell);
+            territory.storedCells.set(cell);
+        }
+        return territory;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public long getMaxDeposit() {
+        return maxDeposit;
+    }
+
+    public int cellCount() {
+        return deposits.length;
+    }
+
+    public int cellOf(int row, int col) {
+        return (row - 1) * cols + (col - 1);
+    }
+
+    public int rowOf(int cell) {
+        return cell / cols + 1;
+    }
+
+    public int colOf(int cell) {
+        return cell % cols + 1;
+    }
+
+    public long getDeposit(int cell) {
+        return deposits[cell];
+    }
+
+    public int getOwner(int cell) {
+        return owners[cell];
+    }
+
+    public void updateDeposit(int cell, long amount) {
+        long deposit = Math.max(0, deposits[cell] + amount);
+        deposits[cell] = Math.min(deposit, maxDeposit);
+        markCell(cell);
+    }
+
+    public void setOwner(int cell, int owner) {
+        int previous = owners[cell];
+        if (previous != NO_OWNER) ownedCells[previous].clear(cell);
+        if (owner != NO_OWNER) ownedCells[owner].set(cell);
+        owners[cell] = owner;
+        markCell(cell);
+    }
+
+    public boolean isMyRegion(int cell, int owner) {
+        return cell >= 0 && owners[cell] != NO_OWNER && owners[cell] == owner;
+    }
+
+    public boolean isRivalLand(int cell, int owner) {
+        return owners[cell] != NO_OWNER && owners[cell] != owner;
+    }
+
+    public void clearPlayerOwnership(int owner) {
+        BitSet cells = (BitSet) ownedCells[owner].clone();
+        for (int cell = cells.nextSetBit(0); cell >= 0; cell = cells.nextSetBit(cell + 1)) {
+            setOwner(cell, NO_OWNER);
+        }
+    }
+
+    public int ownedCount(int owner) {
+        return owner == NO_OWNER ? 0 : ownedCells[owner].cardinality();
+    }
+
+    public BitSet ownedCells(int owner) {
+        return owner == NO_OWNER ? new BitSet() : (BitSet) ownedCells[owner].clone();
+    }
+
+    public Map<String, Long> ownedRegionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int owner = 0; owner < ownerIds.length; owner++) {
+            counts.put(ownerIds[owner], (long) ownedCells[owner].cardinality());
+        }
+        return counts;
+    }
+
+    public int internOwner(String ownerId) {
+        if (ownerId == null) return NO_OWNER;
+        Integer index = ownerIndex.get(ownerId);
+        if (index != null) return index;
+
+        int next = ownerIds.length;
+        ownerIds = Arrays.copyOf(ownerIds, next + 1);
+        ownerIds[next] = ownerId;
+        ownedCells = Arrays.copyOf(ownedCells, next + 1);
+        ownedCells[next] = new BitSet(cellCount());
+        ownerIndex.put(ownerId, next);
+        return next;
+    }
+
+    public int indexOf(String ownerId) {
+        if (ownerId == null) return NO_OWNER;
+        return ownerIndex.getOrDefault(ownerId, NO_OWNER);
+    }
+
+    public String ownerIdOf(int owner) {
+        return owner == NO_OWNER ? null : ownerIds[owner];
+    }
+
+    public boolean hasChanges() {
+        return !dirtyCells.isEmpty();
+    }
+
+    public List<Region> drainChanges() {
+        List<Region> changed = new ArrayList<>(dirtyCells.cardinality());
+        for (int cell = dirtyCells.nextSetBit(0); cell >= 0; cell = dirtyCells.nextSetBit(cell + 1)) {
+            changed.add(copyOf(cell));
+        }
+        dirtyCells.clear();
+        return changed;
+    }
+
+    public Map<String, Region> touchedRegions() {
+        Map<String, Region> regionMap = new HashMap<>();
+        for (int cell = touchedCells.nextSetBit(0); cell >= 0; cell = touchedCells.nextSetBit(cell + 1)) {
+            regionMap.put(keyOf(cell), copyOf(cell));
+        }
+        return regionMap;
+    }
+
+    public Map<String, Region> snapshot() {
+        Map<String, Region> regionMap = new HashMap<>();
+        for (int cell = storedCells.nextSetBit(0); cell >= 0; cell = storedCells.nextSetBit(cell + 1)) {
+            regionMap.put(keyOf(cell), copyOf(cell));
+        }
+        return regionMap;
+    }
+
+    @Override
+    public Map<String, Region> createTerritory(GameConfigDTO config) {
+        DenseTerritoryImpl territory = new DenseTerritoryImpl(config.getRows(), config.getCols(), config.getMaxDep(), List.of());
+        territory.storedCells.set(0, territory.cellCount());
+        return territory.getRegionMap();
+    }
+
+    @Override
+    public Map<String, Region> getRegionMap() {
+        Map<String, Region> regionMap = new HashMap<>();
+        for (int cell = storedCells.nextSetBit(0); cell >= 0; cell = storedCells.nextSetBit(cell + 1)) {
+            regionMap.put(keyOf(cell), new CellRegion(cell));
+        }
+        return regionMap;
+    }
+
+    @Override
+    public Region getRegion(int row, int col) {
+        if (!isValidPosition(row, col)) return null;
+        return new CellRegion(cellOf(row, col));
+    }
+
+    @Override
+    public Region getRegion(int row, int col, Map<String, Region> regionMap) {
+        return regionMap.get(row + ":" + col);
+    }
+
+    @Override
+    public boolean isMyRegion(int row, int col, String playerId) {
+        if (!isValidPosition(row, col)) return false;
+        int owner = owners[cellOf(row, col)];
+        return owner != NO_OWNER && ownerIds[owner].equals(playerId);
+    }
+
+    @Override
+    public boolean isMyRegion(Region region, String playerId) {
+        return !isWasteland(region) && region.getOwner().equals(playerId);
+    }
+
+    @Override
+    public boolean isWasteland(int row, int col) {
+        return !isValidPosition(row, col) || owners[cellOf(row, col)] == NO_OWNER;
+    }
+
+    @Override
+    public boolean isWasteland(Region region) {
+        return region.getOwner() == null;
+    }
+
+    @Override
+    public boolean isRivalLand(Region region, String playerId) {
+        return !isWasteland(region) && !region.getOwner().equals(playerId);
+    }
+
+    @Override
+    public boolean isValidPosition(int row, int col) {
+        return row > 0 && row <= rows && col > 0 && col <= cols;
+    }
+
+    @Override
+    public boolean isValidPosition(int row, int col, TerritorySizeDTO territorySize) {
+        int rows = territorySize.getRows();
+        int cols = territorySize.getCols();
+        return row > 0 && row <= rows && col > 0 && col <= cols;
+    }
+
+    @Override
+    public void clearPlayerOwnership(String gameId, String playerId) {
+        int owner = indexOf(playerId);
+        if (owner != NO_OWNER) clearPlayerOwnership(owner);
+    }
+
+    private void markCell(int cell) {
+        storedCells.set(cell);
+        dirtyCells.set(cell);
+        touchedCells.set(cell);
+    }
+
+    private String keyOf(int cell) {
+        return rowOf(cell) + ":" + colOf(cell);
+    }
+
+    private Region copyOf(int cell) {
+        Region region = new RegionImpl(maxDeposit, rowOf(cell), colOf(cell));
+        region.updateDeposit(deposits[cell]);
+        region.updateOwner(ownerIdOf(owners[cell]));
+        return region;
+    }
+
+    private final class CellRegion implements Region {
+        private final int cell;
+
+        private CellRegion(int cell) {
+            this.cell = cell;
+        }
+
+        @Override
+        public long getMaxDeposit() {
+            return maxDeposit;
+        }
+
+        @Override
+        public long getDeposit() {
+            return deposits[cell];
+        }
+
+        @Override
+        public void updateDeposit(long amount) {
+            DenseTerritoryImpl.this.updateDeposit(cell, amount);
+        }
+
+        @Override
+        public int getRow() {
+            return rowOf(cell);
+        }
+
+        @Override
+        public int getCol() {
+            return colOf(cell);
+        }
+
+        @Override
+        public String getOwner() {
+            return ownerIdOf(owners[cell]);
+        }
+
+        @Override
+        public void updateOwner(String ownerId) {
+            setOwner(cell, internOwner(ownerId));
+        }
+
+        @Override
+        public boolean isSameRegion(int row, int col) {
+            return getRow() == row && getCol() == col;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.upbeat_backend.game.state.territory;
+
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.util.LruCache;
+
+import java.util.List;
+
+/**
+ * Neighbour table for a rows x cols hex map, using the same cell numbering as
+ * {@link DenseTerritoryImpl}. {@code neighbor(cell, direction)} is {@link #OFF_MAP} past the edge,
+ * so a ray is walked by following one direction until it returns {@code OFF_MAP}. Tables are
+ * immutable and shared by every game with the same map size; the most recently used
+ * {@value #MAX_CACHED_GRIDS} sizes are kept.
+ */
+public final class HexGrid {
+    public static final int OFF_MAP = -1;
+    public static final int DIRECTIONS = 6;
+
+    static final int MAX_CACHED_GRIDS = 64;
+
+    private static final List<Keyword> DIRECTION_ORDER = Keyword.directions();
+    private static final LruCache<Long, HexGrid> GRIDS = new LruCache<>(MAX_CACHED_GRIDS);
+
+    private final int rows;
+    private final int cols;
+    private final int[] neighbors;
+
+    private HexGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.neighbors = new int[rows * cols * DIRECTIONS];
+
+        for (int row = 1; row <= rows; row++) {
+            for (int col = 1; col <= cols; col++) {
+                int cell = (row - 1) * cols + (col - 1);
+                for (int d = 0; d < DIRECTIONS; d++) {
+                    neighbors[cell * DIRECTIONS + d] = step(row, col, DIRECTION_ORDER.get(d));
+                }
+            }
+        }
+    }
+
+    public static HexGrid of(int rows, int cols) {
+        return GRIDS.getOrLoad(((long) rows << 32) | cols, key -> new HexGrid(rows, cols));
+    }
+
+    static int cachedGrids() {
+        return GRIDS.size();
+    }
+
+    /** Index of {@code direction} in {@link Keyword#directions()}, which is also the table column. */
+    public static int directionIndex(Keyword direction) {
+        return switch (direction) {
+            case UP -> 0;
+            case UPRIGHT -> 1;
+            case DOWNRIGHT -> 2;
+            case DOWN -> 3;
+            case DOWNLEFT -> 4;
+            case UPLEFT -> 5;
+            default -> throw new IllegalArgumentException("Not a direction: " + direction);
+        };
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int neighbor(int cell, int direction) {
+        if (cell == OFF_MAP) return OFF_MAP;
+        return neighbors[cell * DIRECTIONS + direction];
+    }
+
+    public int neighbor(int cell, Keyword direction) {
+        return neighbor(cell, directionIndex(direction));
+    }
+
+    private int step(int row, int col, Keyword direction) {
+        boolean isEvenCol = (col % 2 == 0);
+        int nextRow = row;
+        int nextCol = col;
+        switch (direction) {
+            case UP -> nextRow = row - 1;
+            case DOWN -> nextRow = row + 1;
+            case UPLEFT -> {
+                nextRow = isEvenCol ? row - 1 : row;
+                nextCol = col - 1;
+            }
+            case UPRIGHT -> {
+                nextRow = isEvenCol ? row - 1 : row;
+                nextCol = col + 1;
+            }
+            case DOWNLEFT -> {
+                nextRow = isEvenCol ? row : row + 1;
+                nextCol = col - 1;
+            }
+            case DOWNRIGHT -> {
+                nextRow = isEvenCol ? row : row + 1;
+                nextCol = col + 1;
+            }
+            default -> {
+            }
+        }
+        if (nextRow < 1 || nextRow > rows || nextCol < 1 || nextCol > cols) return OFF_MAP;
+        return (nextRow - 1) * cols + (nextCol - 1);
+    }
+}
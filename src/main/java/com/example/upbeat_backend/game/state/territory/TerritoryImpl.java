@@ -89,13 +89,6 @@ public class TerritoryImpl implements Territory {
 
     @Override
     public void clearPlayerOwnership(String gameId, String playerId) {
-        Map<String, Region> regions = getRegionMap();
-        for (Region playerRegion : regions.values()) {
-            if (playerId.equals(playerRegion.getOwner())) {
-                playerRegion.updateOwner(null);
-                repository.updateRegion(gameId, playerRegion.getRow(), playerRegion.getCol(),
-                        playerRegion.getDeposit(), null);
-            }
-        }
+        repository.clearPlayerOwnership(gameId, playerId);
     }
 }
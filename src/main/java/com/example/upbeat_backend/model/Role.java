@@ -34,6 +34,10 @@ public class Role {
     @Column(columnDefinition = "json")
     private Map<String, Boolean> permissions;
 
+    /** Raised on every name or permission change; access tokens carry it to detect stale role claims. */
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
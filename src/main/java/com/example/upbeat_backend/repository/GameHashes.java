@@ -0,0 +1,94 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.game.state.region.Region;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maps the game hashes read from Redis to their DTOs, shared by the blocking and reactive
+ * repositories. Every method expects a non-empty hash.
+ */
+final class GameHashes {
+    private GameHashes() {
+    }
+
+    static GameInfoDTO gameInfo(Map<Object, Object> data) {
+        long sequence = data.get("sequence") instanceof Number number ? number.longValue() : 0;
+        Long seed = data.get("seed") instanceof Number number ? number.longValue() : null;
+        long randomPosition = data.get("randomPosition") instanceof Number number ? number.longValue() : 0;
+        return GameInfoDTO.builder()
+                .gameStatus(GameStatus.valueOf((String) data.get("status")))
+                .createAt(new Timestamp(((Number) data.get("createdAt")).longValue()))
+                .winner((String) data.get("winner"))
+                .maxPlayers(((Number) data.get("maxPlayers")).intValue())
+                .currentTurn(((Number) data.get("currentTurn")).intValue())
+                .lastUpdateAt(new Timestamp(((Number) data.get("lastUpdatedAt")).longValue()))
+                .sequence(sequence)
+                .seed(seed)
+                .randomPosition(randomPosition)
+                .build();
+    }
+
+    static GameConfigDTO gameConfig(Map<Object, Object> data) {
+        return GameConfigDTO.builder()
+                .rows(((Number) data.get("rows")).intValue())
+                .cols(((Number) data.get("cols")).intValue())
+                .initPlanMin(((Number) data.get("initPlanMin")).intValue())
+                .initPlanSec(((Number) data.get("initPlanSec")).intValue())
+                .initBudget(((Number) data.get("initBudget")).longValue())
+                .initCenterDep(((Number) data.get("initCenterDep")).longValue())
+                .planRevMin(((Number) data.get("planRevMin")).intValue())
+                .planRevSec(((Number) data.get("planRevSec")).intValue())
+                .revCost(((Number) data.get("revCost")).longValue())
+                .maxDep(((Number) data.get("maxDep")).longValue())
+                .interestPct(((Number) data.get("interestPct")).intValue())
+                .build();
+    }
+
+    static TerritorySizeDTO territorySize(Map<Object, Object> data) {
+        return TerritorySizeDTO.builder()
+                .rows(((Number) data.get("rows")).intValue())
+                .cols(((Number) data.get("cols")).intValue())
+                .build();
+    }
+
+    static Player player(Map<Object, Object> data) {
+        return new PlayerImpl(
+                (String) data.get("id"),
+                (String) data.get("name"),
+                ((Number) data.get("budget")).longValue(),
+                ((Number) data.get("cityCenterRow")).intValue(),
+                ((Number) data.get("cityCenterCol")).intValue());
+    }
+
+    static CurrentStateDTO currentState(Map<Object, Object> data) {
+        return CurrentStateDTO.builder()
+                .currentPlayerId((String) data.get("currentPlayerId"))
+                .currentRow(((Number) data.get("currentRow")).intValue())
+                .currentCol(((Number) data.get("currentCol")).intValue())
+                .build();
+    }
+
+    static Map<String, Region> regions(Map<Object, Object> data, long maxDeposit, Supplier<List<String>> owners) {
+        Map<String, Region> regions = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : data.entrySet()) {
+            String position = (String) entry.getKey();
+            String[] coords = position.split(":");
+            int row = Integer.parseInt(coords[0]);
+            int col = Integer.parseInt(coords[1]);
+            regions.put(position, RegionFormat.decode(entry.getValue(), maxDeposit, row, col, owners));
+        }
+        return regions;
+    }
+}
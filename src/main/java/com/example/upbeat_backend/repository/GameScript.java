@@ -0,0 +1,65 @@
+package com.example.upbeat_backend.repository;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One Lua script per plan command under {@code scripts/game/}, each prefixed with
+ * {@code common.lua}. A script pays for the command, validates it and applies every region,
+ * ownership index, budget and position change in a single atomic call. {@link #INTEREST} credits the
+ * end-of-round interest the same way. Scripts are sent by SHA and only uploaded again when Redis
+ * does not have them cached.
+ */
+public enum GameScript {
+    RELOCATE("relocate"),
+    MOVE("move"),
+    INVEST("invest"),
+    COLLECT("collect"),
+    SHOOT("shoot"),
+    OPPONENT("opponent"),
+    NEARBY("nearby"),
+    INTEREST("interest");
+
+    private static final String LOCATION = "scripts/game/";
+
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> script;
+
+    GameScript(String name) {
+        this.script = new DefaultRedisScript<>(read("common") + read(name), List.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    RedisScript<List> getScript() {
+        return script;
+    }
+
+    private static String read(String name) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(LOCATION + name + ".lua").getInputStream(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load game script " + name, e);
+        }
+    }
+
+    /** The command's return value and the {@code "row:col"} fields the script wrote. */
+    public record Result(long value, List<String> changedCells) {
+        static Result of(List<?> reply) {
+            if (reply == null || reply.isEmpty()) return new Result(0, List.of());
+            List<String> cells = new ArrayList<>(reply.size() - 1);
+            for (int i = 1; i < reply.size(); i++) {
+                cells.add(reply.get(i).toString());
+            }
+            return new Result(((Number) reply.getFirst()).longValue(), cells);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.region.Region;
+
+import java.util.List;
+import java.util.Map;
+
+/** Everything a turn reads before running a plan, loaded together. */
+public record GameSnapshot(GameInfoDTO info, GameConfigDTO config, TerritorySizeDTO size, List<Player> players,
+                           Map<String, Region> regions, CurrentStateDTO currentState) {
+}
@@ -0,0 +1,153 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.region.Region;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Collects the writes of one turn and sends them to Redis as a single pipelined
+ * MULTI/EXEC, so a turn is committed in one round-trip and applied in isolation: no other
+ * client's commands run between its writes. Redis has no rollback, so a command that fails
+ * inside EXEC does not undo the others. Writes to the same hash field are coalesced; the last
+ * one wins. Region writes also keep the
+ * per-player ownership sets in step, and the turn's journal entry is appended, inside the same
+ * transaction.
+ */
+public class GameWriteBatch {
+    private final String gameId;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RegionFormat regionFormat;
+    private final Supplier<List<String>> owners;
+    private final Map<String, Map<Object, Object>> hashWrites = new LinkedHashMap<>();
+    private final Map<String, Map<Object, Long>> hashIncrements = new LinkedHashMap<>();
+    private final Map<String, Map<Object, Object>> hashWritesIfAbsent = new LinkedHashMap<>();
+    private final List<MapRecord<String, String, Object>> streamRecords = new ArrayList<>();
+    private OwnershipIndex ownership;
+
+    GameWriteBatch(String gameId, RedisTemplate<String, Object> redisTemplate,
+                   RegionFormat regionFormat, Supplier<List<String>> owners) {
+        this.gameId = gameId;
+        this.redisTemplate = redisTemplate;
+        this.regionFormat = regionFormat;
+        this.owners = owners;
+        this.ownership = new OwnershipIndex(gameId);
+    }
+
+    public void updateGameStatus(GameStatus status) {
+        String key = "game:" + gameId + ":info";
+        put(key, "status", status.name());
+        put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
+    }
+
+    public void incrementTurn() {
+        String key = "game:" + gameId + ":info";
+        hashIncrements.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge("currentTurn", 1L, Long::sum);
+        put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
+    }
+
+    public void incrementSequence() {
+        hashIncrements.computeIfAbsent("game:" + gameId + ":info", k -> new LinkedHashMap<>())
+                .merge("sequence", 1L, Long::sum);
+    }
+
+    public void setGameWinner(String playerId) {
+        String key = "game:" + gameId + ":info";
+        put(key, "winner", playerId);
+        put(key, "status", GameStatus.FINISHED.name());
+        put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
+    }
+
+    public void updateRandomPosition(long position) {
+        put("game:" + gameId + ":info", "randomPosition", position);
+    }
+
+    public void savePlayer(Player player) {
+        String key = "game:" + gameId + ":player:" + player.getId();
+        put(key, "id", player.getId());
+        put(key, "name", player.getName());
+        put(key, "budget", player.getBudget());
+        put(key, "cityCenterRow", player.getCityCenterRow());
+        put(key, "cityCenterCol", player.getCityCenterCol());
+    }
+
+    public void updateRegions(Collection<Region> regions) {
+        String key = "game:" + gameId + ":territory:regions";
+        for (Region region : regions) {
+            String field = region.getRow() + ":" + region.getCol();
+            put(key, field, regionFormat.encode(region.getDeposit(), region.getOwner(), owners));
+            ownership.record(field, region.getOwner(), owners.get());
+        }
+    }
+
+    public void updateCurrentPosition(int row, int col) {
+        String key = "game:" + gameId + ":currentState";
+        put(key, "currentRow", row);
+        put(key, "currentCol", col);
+    }
+
+    public void updateCurrentPlayer(Player player) {
+        String key = "game:" + gameId + ":currentState";
+        put(key, "currentPlayerId", player.getId());
+        put(key, "currentRow", player.getCityCenterRow());
+        put(key, "currentCol", player.getCityCenterCol());
+    }
+
+    void putIfAbsent(String key, Object field, Object value) {
+        hashWritesIfAbsent.computeIfAbsent(key, k -> new LinkedHashMap<>()).putIfAbsent(field, value);
+    }
+
+    void addRecord(MapRecord<String, String, Object> record) {
+        streamRecords.add(record);
+    }
+
+    public boolean isEmpty() {
+        return hashWrites.isEmpty() && hashIncrements.isEmpty() && hashWritesIfAbsent.isEmpty()
+                && streamRecords.isEmpty() && ownership.isEmpty();
+    }
+
+    public void commit() {
+        if (isEmpty()) return;
+
+        Map<String, Map<Object, Object>> writes = new LinkedHashMap<>(hashWrites);
+        Map<String, Map<Object, Long>> increments = new LinkedHashMap<>(hashIncrements);
+        Map<String, Map<Object, Object>> writesIfAbsent = new LinkedHashMap<>(hashWritesIfAbsent);
+        List<MapRecord<String, String, Object>> records = new ArrayList<>(streamRecords);
+        OwnershipIndex index = ownership;
+        hashWrites.clear();
+        hashIncrements.clear();
+        hashWritesIfAbsent.clear();
+        streamRecords.clear();
+        ownership = new OwnershipIndex(gameId);
+
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NotNull RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                writes.forEach((key, fields) -> operations.opsForHash().putAll(key, fields));
+                increments.forEach((key, fields) -> fields.forEach((field, delta) ->
+                        operations.opsForHash().increment(key, field, delta)));
+                writesIfAbsent.forEach((key, fields) -> fields.forEach((field, value) ->
+                        operations.opsForHash().putIfAbsent(key, field, value)));
+                index.apply(operations);
+                records.forEach(record -> operations.opsForStream().add(record));
+                operations.exec();
+                return null;
+            }
+        });
+    }
+
+    private void put(String key, Object field, Object value) {
+        hashWrites.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(field, value);
+    }
+}
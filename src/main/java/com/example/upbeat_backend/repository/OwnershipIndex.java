@@ -0,0 +1,47 @@
+package com.example.upbeat_backend.repository;
+
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.util.*;
+
+/**
+ * Pending changes to the per-player {@code game:{id}:player:{pid}:regions} sets, which hold the
+ * {@code "row:col"} fields each player owns. The previous owner of a cell is not known when it is
+ * written, so a cell is added to its owner's set and removed from every other player's set.
+ */
+final class OwnershipIndex {
+    private final String gameId;
+    private final Map<String, Set<Object>> adds = new LinkedHashMap<>();
+    private final Map<String, Set<Object>> removes = new LinkedHashMap<>();
+
+    OwnershipIndex(String gameId) {
+        this.gameId = gameId;
+    }
+
+    static String keyOf(String gameId, String playerId) {
+        return "game:" + gameId + ":player:" + playerId + ":regions";
+    }
+
+    void record(String cell, String owner, List<String> players) {
+        for (String playerId : players) {
+            if (!playerId.equals(owner)) change(removes, adds, keyOf(gameId, playerId), cell);
+        }
+        if (owner != null) change(adds, removes, keyOf(gameId, owner), cell);
+    }
+
+    boolean isEmpty() {
+        return adds.isEmpty() && removes.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    void apply(RedisOperations operations) {
+        adds.forEach((key, cells) -> operations.opsForSet().add(key, cells.toArray()));
+        removes.forEach((key, cells) -> operations.opsForSet().remove(key, cells.toArray()));
+    }
+
+    private static void change(Map<String, Set<Object>> to, Map<String, Set<Object>> from, String key, String cell) {
+        Set<Object> opposite = from.get(key);
+        if (opposite != null && opposite.remove(cell) && opposite.isEmpty()) from.remove(key);
+        to.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(cell);
+    }
+}
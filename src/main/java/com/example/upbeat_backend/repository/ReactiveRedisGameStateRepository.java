@@ -0,0 +1,113 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.region.Region;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+
+/**
+ * Non-blocking counterpart of {@link RedisGameStateRepository} over the same keys and encodings.
+ * Lookups of a missing hash complete empty instead of returning null, and independent reads are
+ * issued together so they share one round-trip window on the Lettuce connection. Game config and
+ * territory size go through the blocking repository's near-cache, so a turn only reads them from
+ * Redis on a miss. Enabled with {@code game.redis.client=reactive}.
+ */
+@RequiredArgsConstructor
+@Repository
+@ConditionalOnProperty(name = "game.redis.client", havingValue = "reactive")
+public class ReactiveRedisGameStateRepository {
+    private final ReactiveRedisTemplate<String, Object> reactiveGameTemplate;
+    private final RedisGameStateRepository repository;
+
+    // ======== TURN SNAPSHOT ========
+    public Mono<GameSnapshot> loadSnapshot(String gameId) {
+        Mono<GameInfoDTO> info = getGameInfo(gameId)
+                .switchIfEmpty(Mono.error(() -> new GameException.GameNotFound(gameId)));
+        Mono<GameConfigDTO> config = getGameConfig(gameId).cache();
+        Mono<List<Player>> players = getGamePlayers(gameId)
+                .flatMapMany(ids -> Flux.fromIterable(ids).flatMapSequential(id -> getPlayer(gameId, id)))
+                .collectList();
+        Mono<Map<String, Region>> regions = Mono.zip(config, getOwnerSlots(gameId))
+                .flatMap(loaded -> getAllRegions(gameId, loaded.getT1().getMaxDep(), loaded.getT2()));
+        Mono<Optional<CurrentStateDTO>> currentState = getCurrentState(gameId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(info, config, getTerritorySize(gameId), players, regions, currentState)
+                .map(loaded -> {
+                    GameInfoDTO gameInfo = loaded.getT1();
+                    CurrentStateDTO state = loaded.getT6().orElseThrow(() -> new GameException.InvalidGameState(
+                            gameId, gameInfo.getGameStatus().name(), GameStatus.IN_PROGRESS.name()));
+                    return new GameSnapshot(gameInfo, loaded.getT2(), loaded.getT3(), loaded.getT4(), loaded.getT5(), state);
+                })
+                .switchIfEmpty(Mono.error(() -> new GameException.GameNotFound(gameId)));
+    }
+
+    // ======== GAME INFO ========
+    public Mono<GameInfoDTO> getGameInfo(String gameId) {
+        return entries("game:" + gameId + ":info").map(GameHashes::gameInfo);
+    }
+
+    // ======== GAME CONFIGURATION ========
+    public Mono<GameConfigDTO> getGameConfig(String gameId) {
+        return Mono.fromSupplier(() -> repository.cachedGameConfig(gameId))
+                .switchIfEmpty(Mono.defer(() -> entries("game:" + gameId + ":config")
+                        .map(GameHashes::gameConfig)
+                        .doOnNext(config -> repository.cacheGameConfig(gameId, config))));
+    }
+
+    public Mono<TerritorySizeDTO> getTerritorySize(String gameId) {
+        return Mono.fromSupplier(() -> repository.cachedTerritorySize(gameId))
+                .switchIfEmpty(Mono.defer(() -> entries("game:" + gameId + ":territory:size")
+                        .map(GameHashes::territorySize)
+                        .doOnNext(size -> repository.cacheTerritorySize(gameId, size))));
+    }
+
+    // ======== PLAYERS ========
+    public Mono<List<String>> getGamePlayers(String gameId) {
+        return reactiveGameTemplate.opsForList().range("game:" + gameId + ":players", 0, -1)
+                .map(Object::toString)
+                .collectList();
+    }
+
+    public Mono<List<String>> getOwnerSlots(String gameId) {
+        return reactiveGameTemplate.opsForList().range(RedisGameStateRepository.ownersKeyOf(gameId), 0, -1)
+                .map(Object::toString)
+                .collectList()
+                .flatMap(owners -> owners.isEmpty() ? getGamePlayers(gameId) : Mono.just(owners));
+    }
+
+    public Mono<Player> getPlayer(String gameId, String playerId) {
+        return entries("game:" + gameId + ":player:" + playerId).map(GameHashes::player);
+    }
+
+    // ======== REGIONS ========
+    private Mono<Map<String, Region>> getAllRegions(String gameId, long maxDeposit, List<String> owners) {
+        return reactiveGameTemplate.opsForHash().entries("game:" + gameId + ":territory:regions")
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(data -> GameHashes.regions(data, maxDeposit, () -> owners));
+    }
+
+    // ======== CURRENT STATE ========
+    public Mono<CurrentStateDTO> getCurrentState(String gameId) {
+        return entries("game:" + gameId + ":currentState").map(GameHashes::currentState);
+    }
+
+    private Mono<Map<Object, Object>> entries(String key) {
+        return reactiveGameTemplate.opsForHash().entries(key)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .filter(data -> !data.isEmpty());
+    }
+}
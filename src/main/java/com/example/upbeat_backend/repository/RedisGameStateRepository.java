@@ -4,25 +4,64 @@ import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
 import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
 import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
 import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritorySnapshotDTO;
 import com.example.upbeat_backend.game.model.enums.GameStatus;
 import com.example.upbeat_backend.game.state.region.*;
 import com.example.upbeat_backend.game.state.player.*;
-import lombok.AllArgsConstructor;
+import com.example.upbeat_backend.util.LruCache;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Repository
 public class RedisGameStateRepository {
+    private static final int DEFAULT_NEAR_CACHE_SIZE = 1024;
+    private static final StringRedisSerializer SCRIPT_SERIALIZER = new StringRedisSerializer();
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private RegionFormat regionFormat = RegionFormat.JSON;
+    private LruCache<String, GameConfigDTO> configs = new LruCache<>(DEFAULT_NEAR_CACHE_SIZE);
+    private LruCache<String, TerritorySizeDTO> territorySizes = new LruCache<>(DEFAULT_NEAR_CACHE_SIZE);
+
+    @Value("${game.redis.region-format:json}")
+    public void setRegionFormat(String regionFormat) {
+        this.regionFormat = RegionFormat.of(regionFormat);
+    }
+
+    /**
+     * Game config and territory size never change once a game is created, so they are kept in a
+     * bounded in-process cache per game and only read from Redis on a miss. Callers get copies.
+     */
+    @Value("${game.redis.near-cache.max-size:1024}")
+    public void setNearCacheSize(int maxSize) {
+        this.configs = new LruCache<>(maxSize);
+        this.territorySizes = new LruCache<>(maxSize);
+    }
+
+    public GameWriteBatch newWriteBatch(String gameId) {
+        return new GameWriteBatch(gameId, redisTemplate, regionFormat, ownersOf(gameId));
+    }
 
     // ======== GAME INFO ========
     public void initializeGameInfo(String gameId, int maxPlayers) {
+        initializeGameInfo(gameId, maxPlayers, ThreadLocalRandom.current().nextLong());
+    }
+
+    public void initializeGameInfo(String gameId, int maxPlayers, long seed) {
         String key = "game:" + gameId + ":info";
 
         Map<String, Object> gameInfo = new HashMap<>();
@@ -32,14 +71,18 @@ public class RedisGameStateRepository {
         gameInfo.put("maxPlayers", maxPlayers);
         gameInfo.put("currentTurn", 1);
         gameInfo.put("lastUpdatedAt", Instant.now().getEpochSecond());
+        gameInfo.put("seed", seed);
+        gameInfo.put("randomPosition", 0L);
 
         redisTemplate.opsForHash().putAll(key, gameInfo);
     }
 
     public void updateGameStatus(String gameId, GameStatus status) {
         String key = "game:" + gameId + ":info";
-        redisTemplate.opsForHash().put(key, "status", status.name());
-        redisTemplate.opsForHash().put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("status", status.name());
+        fields.put("lastUpdatedAt", Instant.now().getEpochSecond());
+        redisTemplate.opsForHash().putAll(key, fields);
     }
 
     public void incrementTurn(String gameId) {
@@ -48,48 +91,72 @@ public class RedisGameStateRepository {
         redisTemplate.opsForHash().put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
     }
 
+    /** Claims the next position of the game's random stream. */
+    public long nextRandomPosition(String gameId) {
+        String key = "game:" + gameId + ":info";
+        Long position = redisTemplate.opsForHash().increment(key, "randomPosition", 1);
+        return position == null ? 0 : position - 1;
+    }
+
+    public void updateRandomPosition(String gameId, long position) {
+        String key = "game:" + gameId + ":info";
+        redisTemplate.opsForHash().put(key, "randomPosition", position);
+    }
+
     public GameInfoDTO getGameInfo(String gameId) {
         String key = "game:" + gameId + ":info";
         Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
 
         if (data.isEmpty()) return null;
-
-        String winner = (String) data.get("winner");
-        GameStatus status = GameStatus.valueOf((String) data.get("status"));
-        Timestamp createdAt = new Timestamp(((Number) data.get("createdAt")).longValue());
-        int maxPlayers = ((Number) data.get("maxPlayers")).intValue();
-        int currentTurn = ((Number) data.get("currentTurn")).intValue();
-        Timestamp lastUpdatedAt = new Timestamp(((Number) data.get("lastUpdatedAt")).longValue());
-
-        return GameInfoDTO.builder()
-                .gameStatus(status)
-                .createAt(createdAt)
-                .winner(winner)
-                .maxPlayers(maxPlayers)
-                .currentTurn(currentTurn)
-                .lastUpdateAt(lastUpdatedAt)
-                .build();
+        return GameHashes.gameInfo(data);
     }
 
     public List<String> getPlayersWithCityCenters(String gameId) {
-        List<String> activePlayers = new ArrayList<>();
         List<String> allPlayers = getGamePlayers(gameId);
+        if (allPlayers.isEmpty()) return new ArrayList<>();
+
+        List<Object> centers = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NotNull RedisOperations operations) throws DataAccessException {
+                for (String playerId : allPlayers) {
+                    operations.opsForHash().multiGet("game:" + gameId + ":player:" + playerId,
+                            List.of("cityCenterRow", "cityCenterCol"));
+                }
+                return null;
+            }
+        });
 
-        for (String playerId : allPlayers) {
-            Player player = getPlayer(gameId, playerId);
-            if (player != null && player.getCityCenterRow() >= 0 && player.getCityCenterCol() >= 0) {
-                activePlayers.add(playerId);
+        List<String> activePlayers = new ArrayList<>();
+        for (int i = 0; i < allPlayers.size(); i++) {
+            if (i < centers.size() && centers.get(i) instanceof List<?> center && hasCityCenter(center)) {
+                activePlayers.add(allPlayers.get(i));
             }
         }
 
         return activePlayers;
     }
 
+    private static boolean hasCityCenter(List<?> center) {
+        return center.size() == 2
+                && center.get(0) instanceof Number row && row.intValue() >= 0
+                && center.get(1) instanceof Number col && col.intValue() >= 0;
+    }
+
     public void setGameWinner(String gameId, String playerId) {
         String key = "game:" + gameId + ":info";
-        redisTemplate.opsForHash().put(key, "winner", playerId);
-        redisTemplate.opsForHash().put(key, "status", GameStatus.FINISHED.name());
-        redisTemplate.opsForHash().put(key, "lastUpdatedAt", Instant.now().getEpochSecond());
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("winner", playerId);
+        fields.put("status", GameStatus.FINISHED.name());
+        fields.put("lastUpdatedAt", Instant.now().getEpochSecond());
+        redisTemplate.opsForHash().putAll(key, fields);
+        evictCachedGame(gameId);
+    }
+
+    /** Drops the near-cached config and territory size of a game that has finished or been deleted. */
+    public void evictCachedGame(String gameId) {
+        configs.remove(gameId);
+        territorySizes.remove(gameId);
     }
 
     // ======== GAME CONFIGURATION ========
@@ -110,33 +177,45 @@ public class RedisGameStateRepository {
         config.put("interestPct", configDTO.getInterestPct());
 
         redisTemplate.opsForHash().putAll(key, config);
+        configs.put(gameId, configDTO.toBuilder().build());
     }
 
     public GameConfigDTO getGameConfig(String gameId) {
+        GameConfigDTO cached = cachedGameConfig(gameId);
+        if (cached != null) return cached;
+
+        GameConfigDTO config = loadGameConfig(gameId);
+        if (config != null) cacheGameConfig(gameId, config);
+        return config;
+    }
+
+    /** A copy of the near-cached config, or null on a miss; lets the reactive reads share the cache. */
+    GameConfigDTO cachedGameConfig(String gameId) {
+        GameConfigDTO cached = configs.get(gameId);
+        return cached == null ? null : cached.toBuilder().build();
+    }
+
+    void cacheGameConfig(String gameId, GameConfigDTO config) {
+        configs.put(gameId, config.toBuilder().build());
+    }
+
+    private GameConfigDTO loadGameConfig(String gameId) {
         String key = "game:" + gameId + ":config";
         Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
 
         if (data.isEmpty()) return null;
-
-        return GameConfigDTO.builder()
-                .rows(((Number) data.get("rows")).intValue())
-                .cols(((Number) data.get("cols")).intValue())
-                .initPlanMin(((Number) data.get("initPlanMin")).intValue())
-                .initPlanSec(((Number) data.get("initPlanSec")).intValue())
-                .initBudget(((Number) data.get("initBudget")).longValue())
-                .initCenterDep(((Number) data.get("initCenterDep")).longValue())
-                .planRevMin(((Number) data.get("planRevMin")).intValue())
-                .planRevSec(((Number) data.get("planRevSec")).intValue())
-                .revCost(((Number) data.get("revCost")).longValue())
-                .maxDep(((Number) data.get("maxDep")).longValue())
-                .interestPct(((Number) data.get("interestPct")).intValue())
-                .build();
+        return GameHashes.gameConfig(data);
     }
 
     // ======== PLAYERS ========
     public void addPlayerToGame(String gameId, String playerId) {
         String key = "game:" + gameId + ":players";
         redisTemplate.opsForList().rightPush(key, playerId);
+
+        String ownersKey = ownersKeyOf(gameId);
+        if (redisTemplate.opsForList().indexOf(ownersKey, playerId) == null) {
+            redisTemplate.opsForList().rightPush(ownersKey, playerId);
+        }
     }
 
     public List<String> getGamePlayers(String gameId) {
@@ -144,6 +223,20 @@ public class RedisGameStateRepository {
         return getStrings(key);
     }
 
+    /**
+     * Every player that ever joined, in join order. Unlike {@code game:{id}:players} this list is
+     * only appended to, so a player's position in it is a stable owner slot for
+     * {@link RegionFormat#PACKED}. Games created before the list existed use the player list.
+     */
+    public List<String> getOwnerSlots(String gameId) {
+        List<String> owners = getStrings(ownersKeyOf(gameId));
+        return owners.isEmpty() ? getGamePlayers(gameId) : owners;
+    }
+
+    static String ownersKeyOf(String gameId) {
+        return "game:" + gameId + ":owners";
+    }
+
     @NotNull
     private List<String> getStrings(String key) {
         List<Object> plans = redisTemplate.opsForList().range(key, 0, -1);
@@ -198,14 +291,7 @@ public class RedisGameStateRepository {
         Map<Object, Object> playerData = redisTemplate.opsForHash().entries(key);
 
         if (playerData.isEmpty()) return null;
-
-        String id = (String) playerData.get("id");
-        String name = (String) playerData.get("name");
-        long budget = ((Number) playerData.get("budget")).longValue();
-        int cityCenterRow = ((Number) playerData.get("cityCenterRow")).intValue();
-        int cityCenterCol = ((Number) playerData.get("cityCenterCol")).intValue();
-
-        return new PlayerImpl(id, name, budget, cityCenterRow, cityCenterCol);
+        return GameHashes.player(playerData);
     }
 
     // ======== PLAYER PLANS ========
@@ -226,6 +312,12 @@ public class RedisGameStateRepository {
         redisTemplate.opsForHash().put(key, varName, value);
     }
 
+    public void setPlayerVariables(String gameId, String playerId, Map<String, Long> variables) {
+        if (variables.isEmpty()) return;
+        String key = "game:" + gameId + ":player:" + playerId + ":vars";
+        redisTemplate.opsForHash().putAll(key, variables);
+    }
+
     public Long getPlayerVariable(String gameId, String playerId, String varName) {
         String key = "game:" + gameId + ":player:" + playerId + ":vars";
         Object value = redisTemplate.opsForHash().get(key, varName);
@@ -257,39 +349,138 @@ public class RedisGameStateRepository {
         size.put("rows", rows);
         size.put("cols", cols);
         redisTemplate.opsForHash().putAll(key, size);
+        territorySizes.put(gameId, TerritorySizeDTO.builder().rows(rows).cols(cols).build());
     }
 
     public TerritorySizeDTO getTerritorySize(String gameId) {
+        TerritorySizeDTO cached = cachedTerritorySize(gameId);
+        if (cached != null) return cached;
+
+        TerritorySizeDTO size = loadTerritorySize(gameId);
+        if (size != null) cacheTerritorySize(gameId, size);
+        return size;
+    }
+
+    TerritorySizeDTO cachedTerritorySize(String gameId) {
+        TerritorySizeDTO cached = territorySizes.get(gameId);
+        return cached == null ? null : cached.toBuilder().build();
+    }
+
+    void cacheTerritorySize(String gameId, TerritorySizeDTO size) {
+        territorySizes.put(gameId, size.toBuilder().build());
+    }
+
+    private TerritorySizeDTO loadTerritorySize(String gameId) {
         String key = "game:" + gameId + ":territory:size";
         Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
         if (data.isEmpty()) return null;
-        return TerritorySizeDTO.builder()
-                .rows(((Number) data.get("rows")).intValue())
-                .cols(((Number) data.get("cols")).intValue())
-                .build();
+        return GameHashes.territorySize(data);
     }
 
     // ======== REGIONS ========
     public void saveRegion(String gameId, Region region) {
+        updateRegion(gameId, region.getRow(), region.getCol(), region.getDeposit(), region.getOwner());
+    }
+
+    public void updateRegion(String gameId, int row, int col, long deposit, String owner) {
         String key = "game:" + gameId + ":territory:regions";
-        String field = region.getRow() + ":" + region.getCol();
+        String field = row + ":" + col;
 
-        Map<String, Object> regionData = new HashMap<>();
-        regionData.put("deposit", region.getDeposit());
-        regionData.put("owner", region.getOwner() != null ? region.getOwner() : null);
+        Supplier<List<String>> owners = ownersOf(gameId);
+        Object regionData = regionFormat.encode(deposit, owner, owners);
 
         redisTemplate.opsForHash().put(key, field, regionData);
+
+        OwnershipIndex ownership = new OwnershipIndex(gameId);
+        ownership.record(field, owner, owners.get());
+        applyOwnership(ownership);
     }
 
-    public void updateRegion(String gameId, int row, int col, long deposit, String owner) {
+    public void updateRegions(String gameId, Collection<Region> regions) {
+        if (regions.isEmpty()) return;
         String key = "game:" + gameId + ":territory:regions";
-        String field = row + ":" + col;
 
-        Map<String, Object> regionData = new HashMap<>();
-        regionData.put("deposit", deposit);
-        regionData.put("owner", owner);
+        Supplier<List<String>> owners = ownersOf(gameId);
+        OwnershipIndex ownership = new OwnershipIndex(gameId);
+        Map<String, Object> fields = new HashMap<>();
+        for (Region region : regions) {
+            String field = region.getRow() + ":" + region.getCol();
+            fields.put(field, regionFormat.encode(region.getDeposit(), region.getOwner(), owners));
+            ownership.record(field, region.getOwner(), owners.get());
+        }
 
-        redisTemplate.opsForHash().put(key, field, regionData);
+        redisTemplate.opsForHash().putAll(key, fields);
+        applyOwnership(ownership);
+    }
+
+    private void applyOwnership(OwnershipIndex ownership) {
+        if (ownership.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public Object execute(@NotNull RedisOperations operations) throws DataAccessException {
+                ownership.apply(operations);
+                return null;
+            }
+        });
+    }
+
+    public Set<String> getOwnedRegions(String gameId, String playerId) {
+        Set<Object> cells = redisTemplate.opsForSet().members(OwnershipIndex.keyOf(gameId, playerId));
+        if (cells == null) return Collections.emptySet();
+        Set<String> result = new HashSet<>();
+        for (Object cell : cells) {
+            result.add(cell.toString());
+        }
+        return result;
+    }
+
+    public Map<String, Long> getOwnedRegionCounts(String gameId) {
+        List<String> players = getGamePlayers(gameId);
+        if (players.isEmpty()) return new LinkedHashMap<>();
+
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NotNull RedisOperations operations) throws DataAccessException {
+                for (String playerId : players) {
+                    operations.opsForSet().size(OwnershipIndex.keyOf(gameId, playerId));
+                }
+                return null;
+            }
+        });
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            Object size = i < sizes.size() ? sizes.get(i) : null;
+            counts.put(players.get(i), size instanceof Number number ? number.longValue() : 0L);
+        }
+        return counts;
+    }
+
+    public void clearPlayerOwnership(String gameId, String playerId) {
+        String indexKey = OwnershipIndex.keyOf(gameId, playerId);
+        List<Object> cells = new ArrayList<>(getOwnedRegions(gameId, playerId));
+        if (cells.isEmpty()) return;
+
+        String key = "game:" + gameId + ":territory:regions";
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, cells);
+
+        Supplier<List<String>> owners = ownersOf(gameId);
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            Object raw = values.get(i);
+            if (raw == null) continue;
+            String cell = cells.get(i).toString();
+            String[] coords = cell.split(":");
+            Region region = RegionFormat.decode(raw, Long.MAX_VALUE,
+                    Integer.parseInt(coords[0]), Integer.parseInt(coords[1]), owners);
+            if (playerId.equals(region.getOwner())) {
+                fields.put(cell, regionFormat.encode(region.getDeposit(), null, owners));
+            }
+        }
+
+        if (!fields.isEmpty()) redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.delete(indexKey);
     }
 
     public Region getRegion(String gameId, int row, int col) {
@@ -304,9 +495,7 @@ public class RedisGameStateRepository {
             return new RegionImpl(maxDeposit, row, col);
         }
 
-        Map<?, ?> regionData = (Map<?, ?>) regionObj;
-
-        return createRegion(maxDeposit, row, col, regionData);
+        return RegionFormat.decode(regionObj, maxDeposit, row, col, ownersOf(gameId));
     }
 
     public Map<String, Region> getAllRegions(String gameId) {
@@ -316,36 +505,67 @@ public class RedisGameStateRepository {
         GameConfigDTO gameConfig = getGameConfig(gameId);
         long maxDeposit = gameConfig.getMaxDep();
 
-        Map<String, Region> regions = new HashMap<>();
-
-        for (Map.Entry<Object, Object> entry : rawData.entrySet()) {
-            String position = (String) entry.getKey();
-            Map<?, ?> regionData = (Map<?, ?>) entry.getValue();
+        return GameHashes.regions(rawData, maxDeposit, ownersOf(gameId));
+    }
 
-            String[] coords = position.split(":");
-            int row = Integer.parseInt(coords[0]);
-            int col = Integer.parseInt(coords[1]);
+    /** Reads only the given {@code "row:col"} cells with one HMGET; cells that were never written are left out. */
+    public Map<String, Region> getRegions(String gameId, Collection<String> cells) {
+        Map<String, Region> regions = new HashMap<>();
+        if (cells.isEmpty()) return regions;
 
-            Region region = createRegion(maxDeposit, row, col, regionData);
+        String key = "game:" + gameId + ":territory:regions";
+        List<Object> fields = new ArrayList<>(cells);
+        List<Object> rawData = redisTemplate.opsForHash().multiGet(key, fields);
+        if (rawData == null) return regions;
 
-            regions.put(position, region);
+        Map<Object, Object> found = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (rawData.get(i) != null) found.put(fields.get(i), rawData.get(i));
         }
-
-        return regions;
+        return GameHashes.regions(found, getGameConfig(gameId).getMaxDep(), ownersOf(gameId));
     }
 
-    private Region createRegion(long maxDeposit, int row, int col, Map<?, ?> regionData) {
-        Region region = new RegionImpl(maxDeposit, row, col);
+    /**
+     * Reads the result sequence and the board inside one MULTI, so the regions are exactly the
+     * board that sequence describes.
+     */
+    public TerritorySnapshotDTO getTerritorySnapshot(String gameId) {
+        String infoKey = "game:" + gameId + ":info";
+        String regionsKey = "game:" + gameId + ":territory:regions";
+
+        List<Object> results = redisTemplate.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(@NotNull RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.opsForHash().get(infoKey, "sequence");
+                operations.opsForHash().entries(regionsKey);
+                return operations.exec();
+            }
+        });
 
-        long deposit = ((Number) regionData.get("deposit")).longValue();
-        String ownerId = (String) regionData.get("owner");
+        long sequence = results != null && results.get(0) instanceof Number number ? number.longValue() : 0;
+        Map<Object, Object> rawData = results != null && results.get(1) instanceof Map<?, ?> data
+                ? new HashMap<>(data) : Collections.emptyMap();
+        long maxDeposit = getGameConfig(gameId).getMaxDep();
 
-        if (deposit > 0) region.updateDeposit(deposit);
-        if (ownerId != null) {
-            region.updateOwner(ownerId);
-        }
+        return TerritorySnapshotDTO.builder()
+                .gameId(gameId)
+                .sequence(sequence)
+                .regions(GameHashes.regions(rawData, maxDeposit, ownersOf(gameId)))
+                .build();
+    }
+
+    private Supplier<List<String>> ownersOf(String gameId) {
+        return new Supplier<>() {
+            private List<String> owners;
 
-        return region;
+            @Override
+            public List<String> get() {
+                if (owners == null) owners = getOwnerSlots(gameId);
+                return owners;
+            }
+        };
     }
 
     // ======== CURRENT STATE ========
@@ -360,49 +580,95 @@ public class RedisGameStateRepository {
 
     public void updateCurrentPosition(String gameId, int row, int col) {
         String key = "game:" + gameId + ":currentState";
-        redisTemplate.opsForHash().put(key, "currentRow", row);
-        redisTemplate.opsForHash().put(key, "currentCol", col);
+        Map<String, Object> position = new HashMap<>();
+        position.put("currentRow", row);
+        position.put("currentCol", col);
+        redisTemplate.opsForHash().putAll(key, position);
     }
 
     public void updateCurrentPlayer(String gameId, String playerId) {
         Player player = getPlayer(gameId, playerId);
         String key = "game:" + gameId + ":currentState";
-        redisTemplate.opsForHash().put(key, "currentPlayerId", playerId);
-        redisTemplate.opsForHash().put(key, "currentRow", player.getCityCenterRow());
-        redisTemplate.opsForHash().put(key, "currentCol", player.getCityCenterCol());
+        Map<String, Object> state = new HashMap<>();
+        state.put("currentPlayerId", playerId);
+        state.put("currentRow", player.getCityCenterRow());
+        state.put("currentCol", player.getCityCenterCol());
+        redisTemplate.opsForHash().putAll(key, state);
     }
 
     public CurrentStateDTO getCurrentState(String gameId) {
         String key = "game:" + gameId + ":currentState";
         Map<Object, Object> data = redisTemplate.opsForHash().entries(key);
         if (data.isEmpty()) return null;
-        return CurrentStateDTO.builder()
-                .currentPlayerId((String) data.get("currentPlayerId"))
-                .currentRow(((Number) data.get("currentRow")).intValue())
-                .currentCol(((Number) data.get("currentCol")).intValue())
-                .build();
+        return GameHashes.currentState(data);
+    }
+
+    // ======== COMMAND SCRIPTS ========
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public GameScript.Result runScript(String gameId, GameScript script, Object... args) {
+        String prefix = "game:" + gameId;
+        List<String> keys = List.of(prefix + ":currentState", prefix + ":territory:regions",
+                prefix + ":config", ownersKeyOf(gameId), prefix + ":players");
+
+        Object[] argv = new Object[args.length + 2];
+        argv[0] = prefix + ":player:";
+        argv[1] = regionFormat.name();
+        for (int i = 0; i < args.length; i++) {
+            argv[i + 2] = String.valueOf(args[i]);
+        }
+
+        List<?> reply = redisTemplate.execute(script.getScript(), SCRIPT_SERIALIZER, (RedisSerializer) SCRIPT_SERIALIZER, keys, argv);
+        return GameScript.Result.of(reply);
+    }
+
+    // ======== FINISHED GAME RETENTION ========
+    /**
+     * Lets Redis drop every key of a finished game after {@code ttl}. Until then the final board
+     * and the turn journal stay readable for results and replays.
+     */
+    public void expireGameData(String gameId, Duration ttl) {
+        List<String> keys = new ArrayList<>(List.of(
+                "game:" + gameId + ":info", "game:" + gameId + ":config", "game:" + gameId + ":players",
+                ownersKeyOf(gameId), "game:" + gameId + ":territory:size", "game:" + gameId + ":territory:regions",
+                "game:" + gameId + ":currentState", TurnJournalRepository.keyOf(gameId),
+                TurnJournalRepository.plansKeyOf(gameId)));
+        for (String playerId : getOwnerSlots(gameId)) {
+            String playerKey = "game:" + gameId + ":player:" + playerId;
+            keys.addAll(List.of(playerKey, playerKey + ":plan", playerKey + ":vars", OwnershipIndex.keyOf(gameId, playerId)));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(@NotNull RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, Object> typed = (RedisOperations<String, Object>) operations;
+                for (String key : keys) {
+                    typed.expire(key, ttl);
+                }
+                return null;
+            }
+        });
     }
 
     // ======== DELETE GAME DATA ========
     public void deleteGameData(String gameId) {
+        evictCachedGame(gameId);
+
         String gameInfoKey = "game:" + gameId + ":info";
+        String configKey = "game:" + gameId + ":config";
         String playersKey = "game:" + gameId + ":players";
         String territorySizeKey = "game:" + gameId + ":territory:size";
         String regionsKey = "game:" + gameId + ":territory:regions";
         String currentStateKey = "game:" + gameId + ":currentState";
 
-        redisTemplate.delete(Arrays.asList(
-                gameInfoKey, playersKey, territorySizeKey, regionsKey, currentStateKey
+        List<String> keys = new ArrayList<>(Arrays.asList(
+                gameInfoKey, configKey, playersKey, ownersKeyOf(gameId), territorySizeKey, regionsKey, currentStateKey,
+                TurnJournalRepository.keyOf(gameId), TurnJournalRepository.plansKeyOf(gameId)
         ));
-
-        Set<Object> playerIds = redisTemplate.opsForSet().members(playersKey);
-        if (playerIds != null) {
-            for (Object playerId : playerIds) {
-                String playerKey = "game:" + gameId + ":player:" + playerId;
-                String playerPlansKey = playerKey + ":plan";
-                String playerVarsKey = playerKey + ":vars";
-                redisTemplate.delete(Arrays.asList(playerKey, playerPlansKey, playerVarsKey));
-            }
+        for (String playerId : getOwnerSlots(gameId)) {
+            String playerKey = "game:" + gameId + ":player:" + playerId;
+            keys.addAll(List.of(playerKey, playerKey + ":plan", playerKey + ":vars", OwnershipIndex.keyOf(gameId, playerId)));
         }
+        redisTemplate.delete(keys);
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * How a region cell is stored in {@code game:{id}:territory:regions}.
+ * {@link #decode} accepts every format, so switching formats never strands existing games.
+ */
+public enum RegionFormat {
+    JSON {
+        @Override
+        public Object encode(long deposit, String owner, Supplier<List<String>> owners) {
+            Map<String, Object> regionData = new HashMap<>();
+            regionData.put("deposit", deposit);
+            regionData.put("owner", owner);
+            return regionData;
+        }
+    },
+    /**
+     * {@code deposit * 256 + ownerSlot} as a single number, where ownerSlot is the owner's 1-based
+     * position in the append-only {@code game:{id}:owners} list and 0 means no owner. Owners
+     * outside that list fall back to {@link #JSON}.
+     */
+    PACKED {
+        @Override
+        public Object encode(long deposit, String owner, Supplier<List<String>> owners) {
+            if (owner == null) return deposit << OWNER_BITS;
+
+            int slot = owners.get().indexOf(owner) + 1;
+            if (slot == 0 || slot > OWNER_MASK) return JSON.encode(deposit, owner, owners);
+            return (deposit << OWNER_BITS) | slot;
+        }
+    };
+
+    private static final int OWNER_BITS = 8;
+    private static final long OWNER_MASK = (1L << OWNER_BITS) - 1;
+
+    public abstract Object encode(long deposit, String owner, Supplier<List<String>> owners);
+
+    public static Region decode(Object raw, long maxDeposit, int row, int col, Supplier<List<String>> owners) {
+        Region region = new RegionImpl(maxDeposit, row, col);
+        long deposit;
+        String ownerId;
+
+        if (raw instanceof Number packed) {
+            long value = packed.longValue();
+            int slot = (int) (value & OWNER_MASK);
+            deposit = value >>> OWNER_BITS;
+            ownerId = slot == 0 ? null : ownerAt(owners.get(), slot, row, col);
+        } else {
+            Map<?, ?> regionData = (Map<?, ?>) raw;
+            deposit = ((Number) regionData.get("deposit")).longValue();
+            ownerId = (String) regionData.get("owner");
+        }
+
+        if (deposit > 0) region.updateDeposit(deposit);
+        if (ownerId != null) {
+            region.updateOwner(ownerId);
+        }
+        return region;
+    }
+
+    private static String ownerAt(List<String> owners, int slot, int row, int col) {
+        if (slot > owners.size()) {
+            throw new IllegalStateException("Region " + row + ":" + col + " has owner slot " + slot
+                    + " but the game has only " + owners.size() + " owner slots");
+        }
+        return owners.get(slot - 1);
+    }
+
+    public static RegionFormat of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -2,6 +2,8 @@ package com.example.upbeat_backend.repository;
 
 import com.example.upbeat_backend.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,7 @@ import java.util.Optional;
 public interface RoleRepository extends JpaRepository<Role, String> {
     Optional<Role> findByName(String name);
     boolean existsByName(String name);
+
+    @Query("select r.version from Role r where r.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
 }
@@ -0,0 +1,164 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.dto.response.event.EventData;
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.model.enums.EventType;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Per-game turn journal in the Redis Stream {@code game:{id}:journal}. Entry ids are
+ * {@code {sequence}-1}, so a range of result sequences maps directly onto XRANGE. Plans are
+ * stored once per SHA-256 in {@code game:{id}:journal:plans} and entries refer to them by hash.
+ */
+@Repository
+public class TurnJournalRepository {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper mapper;
+
+    public TurnJournalRepository(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.mapper = objectMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .registerModule(new SimpleModule().addDeserializer(GameEvent.class, new GameEventDeserializer()));
+    }
+
+    static String keyOf(String gameId) {
+        return "game:" + gameId + ":journal";
+    }
+
+    static String plansKeyOf(String gameId) {
+        return keyOf(gameId) + ":plans";
+    }
+
+    public void append(String gameId, JournalEntryDTO entry) {
+        redisTemplate.opsForStream().add(record(gameId, entry));
+    }
+
+    /** Appends the entry when the batch commits, so it is written together with the turn it records. */
+    public void append(GameWriteBatch batch, String gameId, JournalEntryDTO entry) {
+        batch.addRecord(record(gameId, entry));
+    }
+
+    /** Stores the plan text under its hash if it is not stored yet and returns the hash. */
+    public String savePlan(String gameId, String plan) {
+        String hash = planHash(plan);
+        redisTemplate.opsForHash().putIfAbsent(plansKeyOf(gameId), hash, plan);
+        return hash;
+    }
+
+    public String savePlan(GameWriteBatch batch, String gameId, String plan) {
+        String hash = planHash(plan);
+        batch.putIfAbsent(plansKeyOf(gameId), hash, plan);
+        return hash;
+    }
+
+    public String getPlan(String gameId, String planHash) {
+        Object plan = redisTemplate.opsForHash().get(plansKeyOf(gameId), planHash);
+        return plan != null ? plan.toString() : null;
+    }
+
+    public List<JournalEntryDTO> getEntries(String gameId, long fromSequence, long toSequence) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(keyOf(gameId), Range.closed(String.valueOf(fromSequence), String.valueOf(toSequence)));
+        if (records == null) return new ArrayList<>();
+
+        List<JournalEntryDTO> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            entries.add(read(record.getValue().get("entry").toString()));
+        }
+        return entries;
+    }
+
+    private MapRecord<String, String, Object> record(String gameId, JournalEntryDTO entry) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("type", entry.getType().name());
+        fields.put("entry", write(entry));
+
+        return StreamRecords.newRecord()
+                .in(keyOf(gameId))
+                .withId(RecordId.of(entry.getSequence(), 1))
+                .ofMap(fields);
+    }
+
+    static String planHash(String plan) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(plan.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String write(JournalEntryDTO entry) {
+        try {
+            return mapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode journal entry " + entry.getSequence(), e);
+        }
+    }
+
+    private JournalEntryDTO read(String json) {
+        try {
+            return mapper.readValue(json, JournalEntryDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot decode journal entry", e);
+        }
+    }
+
+    /** {@link EventData} carries no type id, so the data record is picked from the event type. */
+    private static final class GameEventDeserializer extends StdDeserializer<GameEvent> {
+        private GameEventDeserializer() {
+            super(GameEvent.class);
+        }
+
+        @Override
+        public GameEvent deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            EventType type = context.readTreeAsValue(node.get("eventType"), EventType.class);
+            EventData data = context.readTreeAsValue(node.get("data"), dataClass(type));
+            return new GameEvent(type, data, node.path("timestamp").asLong());
+        }
+
+        private static Class<? extends EventData> dataClass(EventType type) {
+            return switch (type) {
+                case DONE -> EventData.Done.class;
+                case RELOCATE -> EventData.Relocate.class;
+                case MOVE -> EventData.Move.class;
+                case INVEST -> EventData.Invest.class;
+                case COLLECT -> EventData.Collect.class;
+                case SHOOT -> EventData.Shoot.class;
+                case OPPONENT -> EventData.Opponent.class;
+                case NEARBY -> EventData.Nearby.class;
+                case ROWS -> EventData.Rows.class;
+                case COLS -> EventData.Cols.class;
+                case CURRENT_ROW -> EventData.CurrentRow.class;
+                case CURRENT_COL -> EventData.CurrentCol.class;
+                case BUDGET -> EventData.Budget.class;
+                case DEPOSIT -> EventData.Deposit.class;
+                case INTEREST -> EventData.Interest.class;
+                case MAX_DEPOSIT -> EventData.MaxDeposit.class;
+                case RANDOM -> EventData.Random.class;
+            };
+        }
+    }
+}
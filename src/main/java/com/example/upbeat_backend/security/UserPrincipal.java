@@ -52,6 +52,17 @@ public class UserPrincipal implements UserDetails {
         );
     }
 
+    public static UserPrincipal create(String id, String username, String email, String roleName,
+                                       Collection<String> permissions, AccountStatus status) {
+        Set<GrantedAuthority> authorities = new HashSet<>();
+        if (roleName != null) authorities.add(new SimpleGrantedAuthority(roleName));
+        for (String permission : permissions) {
+            authorities.add(new SimpleGrantedAuthority(permission));
+        }
+
+        return new UserPrincipal(id, username, email, null, authorities, status);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -1,25 +1,49 @@
 package com.example.upbeat_backend.security.jwt;
 
+import com.example.upbeat_backend.model.Role;
 import com.example.upbeat_backend.model.User;
+import com.example.upbeat_backend.model.enums.AccountStatus;
+import com.example.upbeat_backend.security.UserPrincipal;
+import com.example.upbeat_backend.security.service.RoleVersions;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
+import java.util.*;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
+    private static final String ROLE_ID = "roleId";
+    private static final String ROLE = "role";
+    private static final String PERMISSIONS = "permissions";
+    private static final String ROLE_VERSION = "rv";
+    private static final String STATUS = "status";
+
+    private final RoleVersions roleVersions;
 
     private SecretKey key;
 
     @Value("${app.jwt.access-token-expiration-ms}")
     private int accessTokenExpirationMs;
 
+    /**
+     * When set, access tokens also carry the user's role, enabled permissions, role version and
+     * account status, so a request can be authenticated from the token alone while the role version
+     * is current. The status is the one at login: suspending or deleting an account only takes
+     * effect for such tokens once they expire.
+     */
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     @PostConstruct
     public void init() {
         // สร้างคีย์ที่ปลอดภัยสำหรับ HS512 โดยอัตโนมัติ
@@ -30,10 +54,27 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(user.getId())
                 .claim("username", user.getUsername())
-                .claim("email", user.getEmail())
+                .claim("email", user.getEmail());
+
+        Role role = user.getRole();
+        if (statelessPrincipal && role != null && role.getId() != null) {
+            List<String> permissions = new ArrayList<>();
+            if (role.getPermissions() != null) {
+                role.getPermissions().forEach((permission, enabled) -> {
+                    if (Boolean.TRUE.equals(enabled)) permissions.add(permission);
+                });
+            }
+            builder.claim(ROLE_ID, role.getId())
+                    .claim(ROLE, role.getName())
+                    .claim(PERMISSIONS, permissions)
+                    .claim(ROLE_VERSION, role.getVersion());
+            if (user.getStatus() != null) builder.claim(STATUS, user.getStatus().name());
+        }
+
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -41,12 +82,7 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     public String getUserIdFromToken(String token) {
@@ -57,4 +93,48 @@ public class JwtTokenProvider {
                 .getBody()
                 .getSubject();
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the token and returns its claims, or {@code null} if it is invalid or expired.
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal straight from the claims, or returns {@code null} when the token carries
+     * no role claims or its role version is stale, in which case the caller loads the user instead.
+     */
+    public UserPrincipal getPrincipal(@NotNull Claims claims) {
+        if (!statelessPrincipal) return null;
+
+        String roleId = claims.get(ROLE_ID, String.class);
+        Number version = claims.get(ROLE_VERSION, Number.class);
+        String status = claims.get(STATUS, String.class);
+        if (roleId == null || version == null || status == null
+                || !roleVersions.isCurrent(roleId, version.longValue())) {
+            return null;
+        }
+
+        List<?> permissions = claims.get(PERMISSIONS, List.class);
+        List<String> names = new ArrayList<>();
+        if (permissions != null) {
+            for (Object permission : permissions) {
+                names.add(permission.toString());
+            }
+        }
+
+        return UserPrincipal.create(
+                claims.getSubject(),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.get(ROLE, String.class),
+                names,
+                AccountStatus.valueOf(status)
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.upbeat_backend.security.service;
+
+import com.example.upbeat_backend.util.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of authenticated principals by user id. Entries expire after the configured TTL,
+ * and anything that changes a user's password, status or role permissions must evict them so the
+ * next request reloads the user.
+ */
+@Component
+public class PrincipalCache {
+    private final LruCache<String, Entry> principals;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    @Autowired
+    public PrincipalCache(@Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${app.security.principal-cache.ttl:60s}") Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public PrincipalCache(int maxSize, Duration ttl, Clock clock) {
+        this.principals = new LruCache<>(maxSize);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public UserDetails getOrLoad(String userId, Function<String, UserDetails> loader) {
+        long now = clock.millis();
+        Entry entry = principals.get(userId);
+        if (entry != null && entry.expiresAt() > now) return entry.principal();
+
+        UserDetails principal = loader.apply(userId);
+        if (ttlMillis > 0) principals.put(userId, new Entry(principal, now + ttlMillis));
+        return principal;
+    }
+
+    public void evict(String userId) {
+        principals.remove(userId);
+    }
+
+    public void evictAll() {
+        principals.clear();
+    }
+
+    public int size() {
+        return principals.size();
+    }
+
+    public long getHits() {
+        return principals.getHits();
+    }
+
+    public long getMisses() {
+        return principals.getMisses();
+    }
+
+    private record Entry(UserDetails principal, long expiresAt) {}
+}
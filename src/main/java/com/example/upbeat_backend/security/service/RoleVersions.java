@@ -0,0 +1,72 @@
+package com.example.upbeat_backend.security.service;
+
+import com.example.upbeat_backend.model.Role;
+import com.example.upbeat_backend.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role versions used to spot access tokens whose embedded role claims are out of date. The version
+ * is stored on {@link Role} and goes up whenever the role's name or permissions change, so it
+ * survives restarts and is the same on every node. Each node keeps the versions it has read for
+ * {@code app.jwt.role-version-ttl-ms}; a change made on another node is therefore seen within that
+ * time, and immediately on the node that made it.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleVersions {
+    private final RoleRepository roleRepository;
+    private final Map<String, Entry> versions = new ConcurrentHashMap<>();
+    private long ttlNanos = TimeUnit.SECONDS.toNanos(5);
+
+    @Value("${app.jwt.role-version-ttl-ms:5000}")
+    public void setTtlMs(long ttlMs) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        for (Role role : roleRepository.findAll()) {
+            update(role.getId(), role.getVersion());
+        }
+    }
+
+    /** A token is current only if it carries exactly the role's stored version. */
+    public boolean isCurrent(String roleId, long version) {
+        Entry entry = versions.get(roleId);
+        if (entry == null || version > entry.version || System.nanoTime() - entry.loadedAt >= ttlNanos) {
+            entry = load(roleId);
+        }
+        return entry != null && entry.version == version;
+    }
+
+    public void update(String roleId, long version) {
+        versions.put(roleId, new Entry(version, System.nanoTime()));
+    }
+
+    public void evict(String roleId) {
+        versions.remove(roleId);
+    }
+
+    private Entry load(String roleId) {
+        Optional<Long> version = roleRepository.findVersionById(roleId);
+        if (version.isEmpty()) {
+            versions.remove(roleId);
+            return null;
+        }
+        Entry entry = new Entry(version.get(), System.nanoTime());
+        versions.put(roleId, entry);
+        return entry;
+    }
+
+    private record Entry(long version, long loadedAt) {
+    }
+}
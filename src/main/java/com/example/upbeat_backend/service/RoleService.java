@@ -12,6 +12,8 @@ import com.example.upbeat_backend.model.User;
 import com.example.upbeat_backend.model.enums.ActionType;
 import com.example.upbeat_backend.repository.RoleRepository;
 import com.example.upbeat_backend.repository.UserRepository;
+import com.example.upbeat_backend.security.service.PrincipalCache;
+import com.example.upbeat_backend.security.service.RoleVersions;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +30,8 @@ public class RoleService {
     private final UserRepository userRepository;
     private final RoleAuditLogService roleAuditLogService;
     private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final RoleVersions roleVersions;
 
     @Value("${app.default_role_name}")
     private String defaultRoleName;
@@ -65,6 +69,7 @@ public class RoleService {
 
         try {
             roleRepository.delete(role);
+            roleVersions.evict(roleId);
             User user = userService.getCurrentUser();
             roleAuditLogService.saveRoleAuditLog(ActionType.DELETE, roleId, user);
             return "Role deleted successfully.";
@@ -86,7 +91,10 @@ public class RoleService {
 
         try {
             role.setName(un.getName());
+            role.setVersion(role.getVersion() + 1);
             roleRepository.save(role);
+            roleVersions.update(role.getId(), role.getVersion());
+            principalCache.evictAll();
             User user = userService.getCurrentUser();
             roleAuditLogService.saveRoleAuditLog(ActionType.UPDATE_NAME, role.getId(), user);
             return "Role name updated successfully.";
@@ -104,7 +112,10 @@ public class RoleService {
 
         try {
             role.setPermissions(up.getPermissions());
+            role.setVersion(role.getVersion() + 1);
             roleRepository.save(role);
+            roleVersions.update(role.getId(), role.getVersion());
+            principalCache.evictAll();
             User user = userService.getCurrentUser();
             roleAuditLogService.saveRoleAuditLog(ActionType.UPDATE_PERMISSIONS, role.getId(), user);
             return "Role permissions updated successfully.";
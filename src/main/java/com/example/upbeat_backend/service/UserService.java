@@ -5,6 +5,7 @@ import com.example.upbeat_backend.exception.auth.AuthException;
 import com.example.upbeat_backend.exception.user.UserException;
 import com.example.upbeat_backend.model.User;
 import com.example.upbeat_backend.repository.UserRepository;
+import com.example.upbeat_backend.security.service.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     public String changePassword(String userId, @NotNull ChangePassword cp) {
         User user = userRepository.findById(userId)
@@ -27,6 +29,7 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(cp.getNewPassword()));
         userRepository.save(user);
+        principalCache.evict(userId);
 
         return "Password changed successfully";
     }
@@ -0,0 +1,13 @@
+local amount = tonumber(ARGV[3])
+if amount <= 0 then return result(0) end
+if not pay() then return result(0) end
+if not is_mine(ROW, COL) then return result(0) end
+
+local deposit = get_region(ROW, COL)
+if deposit < amount then return result(0) end
+
+local owner = PLAYER
+if deposit == amount then owner = nil end
+add_budget(amount)
+set_region(ROW, COL, clamp(deposit - amount), owner)
+return result(amount)
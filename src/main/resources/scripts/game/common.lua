@@ -0,0 +1,164 @@
+-- Shared prelude for the game action scripts; each action file is appended to this one.
+-- KEYS[1] currentState, KEYS[2] territory:regions, KEYS[3] config, KEYS[4] owners, KEYS[5] players
+-- ARGV[1] player key prefix ("game:{id}:player:"), ARGV[2] region format, ARGV[3..] action arguments
+-- Every script returns { result, changed cell fields... }.
+local STATE, REGIONS, CONFIG, OWNERS, PLAYERS = KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5]
+local PLAYER_PREFIX, FORMAT = ARGV[1], ARGV[2]
+local OWNER_SLOTS = 256
+local DIRECTIONS = { 'UP', 'UPRIGHT', 'DOWNRIGHT', 'DOWN', 'DOWNLEFT', 'UPLEFT' }
+
+local function decode(raw)
+    if not raw then return nil end
+    local value = cjson.decode(raw)
+    if value == cjson.null then return nil end
+    return value
+end
+
+local config = redis.call('HMGET', CONFIG, 'rows', 'cols', 'maxDep')
+local ROWS, COLS, MAX_DEP = tonumber(config[1]), tonumber(config[2]), tonumber(config[3])
+
+local state = redis.call('HMGET', STATE, 'currentPlayerId', 'currentRow', 'currentCol')
+local PLAYER, ROW, COL = decode(state[1]), tonumber(state[2]), tonumber(state[3])
+if PLAYER == nil then return redis.error_reply('no current player in ' .. STATE) end
+local PLAYER_KEY = PLAYER_PREFIX .. PLAYER
+
+local changed = {}
+local owner_ids
+
+-- Owner slots of RegionFormat.PACKED; games created before the owners list use the player list.
+local function owners()
+    if not owner_ids then
+        owner_ids = {}
+        local raw_ids = redis.call('LRANGE', OWNERS, 0, -1)
+        if #raw_ids == 0 then raw_ids = redis.call('LRANGE', PLAYERS, 0, -1) end
+        for i, raw in ipairs(raw_ids) do
+            owner_ids[i] = decode(raw)
+        end
+    end
+    return owner_ids
+end
+
+local function field(row, col)
+    return string.format('%d:%d', row, col)
+end
+
+local function valid(row, col)
+    return row ~= nil and col ~= nil and row >= 1 and row <= ROWS and col >= 1 and col <= COLS
+end
+
+local function neighbor(row, col, direction)
+    local even = col % 2 == 0
+    if direction == 'UP' then return row - 1, col end
+    if direction == 'DOWN' then return row + 1, col end
+    if direction == 'UPLEFT' then return even and row - 1 or row, col - 1 end
+    if direction == 'UPRIGHT' then return even and row - 1 or row, col + 1 end
+    if direction == 'DOWNLEFT' then return even and row or row + 1, col - 1 end
+    if direction == 'DOWNRIGHT' then return even and row or row + 1, col + 1 end
+    return nil, nil
+end
+
+local function clamp(deposit)
+    return math.max(0, math.min(MAX_DEP, deposit))
+end
+
+-- Jackson's default typing writes non-final values as ["java.type.Name", value].
+local function untyped(value)
+    if type(value) == 'table' and type(value[1]) == 'string' and value[2] ~= nil then return value[2] end
+    return value
+end
+
+-- Accepts both RegionFormat encodings: a packed number or ["java.util.HashMap", {deposit, owner}],
+-- where the deposit is itself typed as ["java.lang.Long", deposit].
+local function decode_region(cell, raw)
+    local value = decode(raw)
+    if value == nil then return 0, nil end
+    if type(value) == 'number' then
+        local slot = value % OWNER_SLOTS
+        local owner = nil
+        if slot > 0 then
+            owner = owners()[slot]
+            if owner == nil then
+                error({ err = string.format('region %s has owner slot %d but the game has only %d owner slots',
+                    cell, slot, #owners()) })
+            end
+        end
+        return (value - slot) / OWNER_SLOTS, owner
+    end
+    value = untyped(value)
+    local owner = value.owner
+    if owner == cjson.null then owner = nil end
+    return tonumber(untyped(value.deposit)), owner
+end
+
+local function get_region(row, col)
+    local cell = field(row, col)
+    return decode_region(cell, redis.call('HGET', REGIONS, cell))
+end
+
+local function encode_region(deposit, owner)
+    if FORMAT == 'PACKED' then
+        local slot = 0
+        if owner then
+            for i, id in ipairs(owners()) do
+                if id == owner then slot = i break end
+            end
+        end
+        if owner == nil or (slot > 0 and slot < OWNER_SLOTS) then
+            return string.format('%.0f', deposit * OWNER_SLOTS + slot)
+        end
+    end
+    local typed_deposit = { 'java.lang.Long', deposit }
+    return cjson.encode({ 'java.util.HashMap', { deposit = typed_deposit, owner = owner or cjson.null } })
+end
+
+-- Writes the cell and keeps the game:{id}:player:{pid}:regions ownership index in step with it.
+local function set_region(row, col, deposit, owner)
+    local cell = field(row, col)
+    redis.call('HSET', REGIONS, cell, encode_region(deposit, owner))
+    local member = cjson.encode(cell)
+    for _, id in ipairs(owners()) do
+        if id ~= owner then redis.call('SREM', PLAYER_PREFIX .. id .. ':regions', member) end
+    end
+    if owner then redis.call('SADD', PLAYER_PREFIX .. owner .. ':regions', member) end
+    changed[#changed + 1] = cell
+end
+
+local function is_mine(row, col)
+    if not valid(row, col) then return false end
+    local _, owner = get_region(row, col)
+    return owner == PLAYER
+end
+
+local function is_rival_land(row, col)
+    local _, owner = get_region(row, col)
+    return owner ~= nil and owner ~= PLAYER
+end
+
+local function budget()
+    return tonumber(redis.call('HGET', PLAYER_KEY, 'budget')) or 0
+end
+
+local function add_budget(amount)
+    redis.call('HINCRBY', PLAYER_KEY, 'budget', string.format('%.0f', amount))
+end
+
+local function pay()
+    if budget() <= 0 then return false end
+    add_budget(-1)
+    return true
+end
+
+local function hex_distance(row1, col1, row2, col2)
+    local z1 = row1 - (col1 - col1 % 2) / 2
+    local y1 = -col1 - z1
+    local z2 = row2 - (col2 - col2 % 2) / 2
+    local y2 = -col2 - z2
+    return math.floor(math.max(math.abs(col2 - col1), math.abs(y2 - y1), math.abs(z2 - z1)))
+end
+
+local function result(value)
+    local reply = { value }
+    for i, cell in ipairs(changed) do reply[i + 1] = cell end
+    return reply
+end
+
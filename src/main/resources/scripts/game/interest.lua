@@ -0,0 +1,22 @@
+-- End-of-round interest on every owned region; ARGV[3] is the current turn. Same formula and rounding as the Java engines.
+local turn = tonumber(ARGV[3])
+local rate = tonumber(redis.call('HGET', CONFIG, 'interestPct')) or 0
+
+local total = 0
+local raw_regions = redis.call('HGETALL', REGIONS)
+for i = 1, #raw_regions, 2 do
+    local cell = raw_regions[i]
+    local deposit, owner = decode_region(cell, raw_regions[i + 1])
+    if owner then
+        local interest = 0
+        if deposit > 0 then
+            local percent = rate * math.log10(deposit) * math.log(turn)
+            interest = math.floor(deposit * percent / 100 + 0.5)
+        end
+        local credited = clamp(deposit + interest)
+        total = total + credited - deposit
+        redis.call('HSET', REGIONS, cell, encode_region(credited, owner))
+        changed[#changed + 1] = cell
+    end
+end
+return result(total)
@@ -0,0 +1,17 @@
+local amount = tonumber(ARGV[3])
+if amount <= 0 then return result(0) end
+if not pay() then return result(0) end
+
+local surrounded = false
+for _, direction in ipairs(DIRECTIONS) do
+    local row, col = neighbor(ROW, COL, direction)
+    if valid(ROW, COL) and is_mine(row, col) then surrounded = true break end
+end
+if not surrounded then return result(0) end
+if budget() < amount then return result(0) end
+if not valid(ROW, COL) then return result(0) end
+
+amount = math.min(amount, MAX_DEP)
+add_budget(-amount)
+set_region(ROW, COL, clamp(get_region(ROW, COL) + amount), PLAYER)
+return result(amount)
@@ -0,0 +1,7 @@
+if not pay() then return result(0) end
+
+local row, col = neighbor(ROW, COL, ARGV[3])
+if not valid(ROW, COL) or not valid(row, col) or is_rival_land(row, col) then return result(0) end
+
+redis.call('HSET', STATE, 'currentRow', row, 'currentCol', col)
+return result(1)
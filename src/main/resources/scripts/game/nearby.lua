@@ -0,0 +1,14 @@
+if not pay() then return result(0) end
+if not valid(ROW, COL) then return result(0) end
+
+local row, col = neighbor(ROW, COL, ARGV[3])
+local distance = 1
+while valid(row, col) do
+    local deposit, owner = get_region(row, col)
+    if owner ~= nil and owner ~= PLAYER then
+        return result(100 * distance + deposit % 10)
+    end
+    row, col = neighbor(row, col, ARGV[3])
+    distance = distance + 1
+end
+return result(0)
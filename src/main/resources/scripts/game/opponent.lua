@@ -0,0 +1,20 @@
+if not pay() then return result(0) end
+if not valid(ROW, COL) then return result(0) end
+
+-- The result grows with distance along a ray, so a ray stops once it cannot beat the best so far.
+local best = 0
+for i, direction in ipairs(DIRECTIONS) do
+    local row, col = neighbor(ROW, COL, direction)
+    local distance = 1
+    while valid(row, col) do
+        local value = i * 10 + distance
+        if best ~= 0 and value >= best then break end
+        if is_rival_land(row, col) then
+            best = value
+            break
+        end
+        row, col = neighbor(row, col, direction)
+        distance = distance + 1
+    end
+end
+return result(best)
@@ -0,0 +1,14 @@
+if not pay() then return result(0) end
+if not is_mine(ROW, COL) then return result(0) end
+
+local center = redis.call('HMGET', PLAYER_KEY, 'cityCenterRow', 'cityCenterCol')
+local center_row, center_col = tonumber(center[1]), tonumber(center[2])
+local cost = 5 * hex_distance(center_row, center_col, ROW, COL) + 10
+if budget() < cost then return result(0) end
+add_budget(-cost)
+
+set_region(ROW, COL, get_region(ROW, COL), PLAYER)
+if valid(center_row, center_col) then
+    set_region(center_row, center_col, get_region(center_row, center_col), nil)
+end
+return result(cost)
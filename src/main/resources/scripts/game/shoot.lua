@@ -0,0 +1,35 @@
+local money = tonumber(ARGV[4])
+if money <= 0 then return result(0) end
+if not pay() then return result(0) end
+if money > budget() then return result(0) end
+add_budget(-money)
+
+local row, col = neighbor(ROW, COL, ARGV[3])
+if not valid(ROW, COL) or not valid(row, col) then return result(money) end
+
+local deposit, owner = get_region(row, col)
+deposit = clamp(deposit - money)
+if deposit <= 0 and owner then
+    local owner_key = PLAYER_PREFIX .. owner
+    local center = redis.call('HMGET', owner_key, 'cityCenterRow', 'cityCenterCol')
+    if tonumber(center[1]) == row and tonumber(center[2]) == col then
+        redis.call('HSET', owner_key, 'cityCenterRow', -1, 'cityCenterCol', -1)
+
+        -- Games created before the ownership index existed have an empty set; scan those instead.
+        local cells = {}
+        for i, member in ipairs(redis.call('SMEMBERS', owner_key .. ':regions')) do
+            cells[i] = cjson.decode(member)
+        end
+        if #cells == 0 then cells = redis.call('HKEYS', REGIONS) end
+
+        for _, cell in ipairs(cells) do
+            local r, c = string.match(cell, '^(%-?%d+):(%-?%d+)$')
+            r, c = tonumber(r), tonumber(c)
+            local cell_deposit, cell_owner = get_region(r, c)
+            if cell_owner == owner then set_region(r, c, cell_deposit, nil) end
+        end
+    end
+    owner = nil
+end
+set_region(row, col, deposit, owner)
+return result(money)
@@ -0,0 +1,91 @@
+package com.example.upbeat_backend.game.metrics;
+
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.model.enums.EventType;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class GameMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GameMetrics metrics = new GameMetrics(registry);
+
+    @Test
+    void turn_shouldCountRedisCallsMadeWhileOpen() {
+        metrics.recordRedisCall("getPlayer", 1_000, true);
+
+        try (GameMetrics.Turn turn = metrics.startTurn()) {
+            metrics.recordRedisCall("getPlayer", 1_000, true);
+            metrics.timeRedisCall("commitBatch", () -> {});
+
+            assertThat(turn.getRedisCalls()).isEqualTo(2);
+        }
+
+        assertThat(registry.get(GameMetrics.TURN_REDIS_CALLS).summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get(GameMetrics.TURN_DURATION).timer().count()).isEqualTo(1);
+        assertThat(registry.get(GameMetrics.REDIS_CALLS).tag("operation", "getPlayer").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void timeRedisCall_shouldTagFailures() {
+        assertThrows(IllegalStateException.class, () -> metrics.timeRedisCall("flush", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertThat(registry.get(GameMetrics.REDIS_CALLS)
+                .tags("operation", "flush", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordEvents_shouldCountByTypeAndPerTurn() {
+        metrics.recordEvents(List.of(event(EventType.MOVE), event(EventType.MOVE), event(EventType.SHOOT)));
+
+        assertThat(registry.get(GameMetrics.EVENTS).tag("type", "MOVE").counter().count()).isEqualTo(2);
+        assertThat(registry.get(GameMetrics.EVENTS).tag("type", "SHOOT").counter().count()).isEqualTo(1);
+        assertThat(registry.get(GameMetrics.TURN_EVENTS).summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void timePlanAndCommand_shouldReturnResult() {
+        assertThat(metrics.timePlan(() -> "done")).isEqualTo("done");
+        assertThat(metrics.timeCommand("move", () -> true)).isTrue();
+
+        assertThat(registry.get(GameMetrics.PLAN_EVALUATION).timer().count()).isEqualTo(1);
+        assertThat(registry.get(GameMetrics.COMMANDS).tag("command", "move").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aspect_shouldTimeRepositoryMethodsByName() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new RedisGameStateRepository(redisTemplate));
+        factory.addAspect(new RepositoryMetricsAspect(metrics));
+        RedisGameStateRepository repository = factory.getProxy();
+
+        try (GameMetrics.Turn turn = metrics.startTurn()) {
+            repository.incrementTurn("game");
+            repository.newWriteBatch("game");
+
+            assertThat(turn.getRedisCalls()).isEqualTo(1);
+        }
+        assertThat(registry.get(GameMetrics.REDIS_CALLS)
+                .tags("operation", "incrementTurn", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.find(GameMetrics.REDIS_CALLS).tag("operation", "newWriteBatch").timer()).isNull();
+    }
+
+    private GameEvent event(EventType type) {
+        return GameEvent.builder().eventType(type).build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.upbeat_backend.game.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ZERO);
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void start_shouldCountParksWhileHoldingMonitor() throws Exception {
+        monitor.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (registry.timer(VirtualThreadPinningMonitor.PINNED).count() == 0 && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+            Thread.sleep(100);
+        }
+        assertThat(registry.timer(VirtualThreadPinningMonitor.PINNED).count()).isPositive();
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.upbeat_backend.game.plans.cache;
+
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.parser.ast.plan.PlanNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlanCacheTest {
+
+    @Test
+    void getOrParse_shouldReturnSameNode_whenPlanIsRepeated() {
+        PlanCache cache = new PlanCache(8);
+
+        Node first = cache.getOrParse("move up");
+        Node second = cache.getOrParse("move up");
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrParse_shouldParseAgain_whenPlanTextChanges() {
+        PlanCache cache = new PlanCache(8);
+
+        Node first = cache.getOrParse("move up");
+        Node second = cache.getOrParse("move down");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrParse_shouldEvictLeastRecentlyUsedPlan_whenFull() {
+        PlanCache cache = new PlanCache(2);
+
+        Node up = cache.getOrParse("move up");
+        cache.getOrParse("move down");
+        cache.getOrParse("move up");
+        cache.getOrParse("done");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.getOrParse("move up")).isSameAs(up);
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void getOrParse_shouldNotCacheInvalidPlan() {
+        PlanCache cache = new PlanCache(8);
+
+        assertThrows(Exception.class, () -> cache.getOrParse("move"));
+        assertThrows(Exception.class, () -> cache.getOrParse("move"));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateAll_shouldClearCachedPlans() {
+        PlanCache cache = new PlanCache(8);
+        cache.getOrParse("done");
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getOrParse_shouldReturnCompiledPlan_whenCompilerIsEnabled() {
+        PlanCache cache = new PlanCache(8, true, true);
+
+        Node node = cache.getOrParse("x = 1 + 2");
+
+        assertThat(node).isNotInstanceOf(PlanNode.class);
+        assertThat(cache.getOrParse("x = 1 + 2")).isSameAs(node);
+    }
+
+    @Test
+    void hash_shouldBeStableForSameContent() {
+        assertThat(PlanCache.hash("move up")).isEqualTo(PlanCache.hash("move up"));
+        assertThat(PlanCache.hash("move up")).isNotEqualTo(PlanCache.hash("move down"));
+        assertThat(PlanCache.hash("move up")).hasSize(64);
+    }
+}
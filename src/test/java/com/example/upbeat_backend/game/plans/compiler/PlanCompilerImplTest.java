@@ -0,0 +1,176 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.exception.parser.ParserException;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.plans.parser.ParserImpl;
+import com.example.upbeat_backend.game.plans.parser.ast.Node;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import com.example.upbeat_backend.game.runtime.Environment;
+import com.example.upbeat_backend.game.runtime.GameEnvironment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class PlanCompilerImplTest {
+
+    private final PlanCompiler compiler = new PlanCompilerImpl();
+
+    private static Node parse(String plan) {
+        return new ParserImpl(new TokenizerImpl(plan)).parse();
+    }
+
+    private static class MapEnvironment implements Environment {
+        private final Map<String, Long> variables = new HashMap<>();
+
+        @Override
+        public String getGameId() {
+            return "test-game";
+        }
+
+        @Override
+        public void setVariable(String name, long value) {
+            variables.put(name, value);
+        }
+
+        @Override
+        public long getVariable(String name) {
+            return variables.get(name);
+        }
+
+        @Override
+        public boolean hasVariable(String name) {
+            return variables.containsKey(name);
+        }
+
+        @Override
+        public Map<String, Long> getVariables() {
+            return new HashMap<>(variables);
+        }
+
+        @Override
+        public void setVariables(Map<String, Long> values) {
+            variables.putAll(values);
+        }
+
+        @Override
+        public void reset() {
+            variables.clear();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "x = 1 + 2 * 3",
+        "x = (1 + 2) * 3 - 4 / 2 % 3",
+        "x = 2 ^ 10",
+        "x = 7 y = x * x + x / 2",
+        "i = 0 s = 0 while (10 - i) { s = s + i i = i + 1 }",
+        "x = 5 if (x - 5) then y = 1 else y = 2",
+        "x = 0 - 7 y = x % 3 z = x / 2",
+        "if (0) then x = 1 else x = 2 while (0) x = 3",
+        "n = 20 a = 0 b = 1 while (n) { t = a + b a = b b = t n = n - 1 }"
+    })
+    void compiledPlan_shouldMatchInterpreter(String plan) {
+        MapEnvironment interpreted = new MapEnvironment();
+        MapEnvironment compiled = new MapEnvironment();
+
+        Object expected = parse(plan).evaluate(interpreted);
+        Object actual = compiler.compile(parse(plan)).evaluate(compiled);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(compiled.variables).isEqualTo(interpreted.variables);
+    }
+
+    @Test
+    void compiledPlan_shouldKeepInfiniteLoopGuard() {
+        Node node = compiler.compile(parse("x = 0 while (1) x = x + 1"));
+        MapEnvironment env = new MapEnvironment();
+
+        assertThrows(ParserException.InfiniteLoop.class, () -> node.evaluate(env));
+        assertThat(env.variables.get("x")).isEqualTo(1000L);
+    }
+
+    @Test
+    void compiledPlan_shouldNotFoldDivisionByZero() {
+        Node node = compiler.compile(parse("x = 1 y = 1 / 0"));
+        MapEnvironment env = new MapEnvironment();
+
+        assertThrows(ParserException.DivisionByZero.class, () -> node.evaluate(env));
+        assertThat(env.variables).containsEntry("x", 1L);
+    }
+
+    @Test
+    void compiledPlan_shouldThrowOnDivisionByZeroVariable() {
+        Node node = compiler.compile(parse("z = 0 x = 10 % z"));
+
+        assertThrows(ParserException.DivisionByZero.class, () -> node.evaluate(new MapEnvironment()));
+    }
+
+    @Test
+    void compiledPlan_shouldThrowOnUnknownIdentifier() {
+        Node node = compiler.compile(parse("x = y + 1"));
+
+        assertThrows(ParserException.UnknownIdentifier.class, () -> node.evaluate(new MapEnvironment()));
+    }
+
+    @Test
+    void compiledPlan_shouldLoadAndStoreVariablesOncePerRun() {
+        Environment env = mock(Environment.class);
+        when(env.getVariables()).thenReturn(Map.of("total", 5L, "unused", 9L));
+
+        compiler.compile(parse("i = 0 while (3 - i) { total = total + i i = i + 1 }")).evaluate(env);
+
+        verify(env).getVariables();
+        verify(env).setVariables(Map.of("i", 3L, "total", 8L));
+        verify(env, never()).getVariable(anyString());
+        verify(env, never()).hasVariable(anyString());
+        verify(env, never()).setVariable(anyString(), anyLong());
+    }
+
+    @Test
+    void compiledPlan_shouldSkipVariableStore_whenPlanHasNoVariables() {
+        Environment env = mock(Environment.class);
+
+        compiler.compile(parse("done")).evaluate(env);
+
+        verifyNoInteractions(env);
+    }
+
+    @Test
+    void compiledPlan_shouldCallGameEnvironmentLikeInterpreter() {
+        String plan = "while (opponent) { if (nearby up) then shoot up 100 else move down } "
+                + "invest budget / 10 collect deposit relocate done";
+        GameEnvironment interpreted = mockGameEnvironment();
+        GameEnvironment compiled = mockGameEnvironment();
+
+        parse(plan).evaluate(interpreted);
+        compiler.compile(parse(plan)).evaluate(compiled);
+
+        for (GameEnvironment env : new GameEnvironment[]{interpreted, compiled}) {
+            verify(env, times(3)).opponent();
+            verify(env, times(2)).nearby(Keyword.UP);
+            verify(env).shoot(Keyword.UP, 100);
+            verify(env).move(Keyword.DOWN);
+            verify(env).invest(50);
+            verify(env).collect(30);
+            verify(env, times(2)).relocate();
+            verify(env).done();
+        }
+    }
+
+    private GameEnvironment mockGameEnvironment() {
+        GameEnvironment env = mock(GameEnvironment.class);
+        when(env.opponent()).thenReturn(12L, 11L, 0L);
+        when(env.nearby(Keyword.UP)).thenReturn(0L, 101L);
+        when(env.getBudget()).thenReturn(500L);
+        when(env.getDeposit()).thenReturn(30L);
+        return env;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.upbeat_backend.game.plans.compiler;
+
+import com.example.upbeat_backend.game.plans.parser.ParserImpl;
+import com.example.upbeat_backend.game.plans.tokenizer.TokenizerImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotResolverTest {
+
+    @Test
+    void resolve_shouldAssignSlotsInOrderOfFirstUse() {
+        SlotResolver resolver = SlotResolver.resolve(new ParserImpl(new TokenizerImpl(
+                "x = 1 while (x) { y = x + z invest y } if (w) then done else shoot up x")).parse());
+
+        assertThat(resolver.names()).containsExactly("x", "y", "z", "w");
+        assertThat(resolver.slotOf("z")).isEqualTo(2);
+    }
+
+    @Test
+    void slotOf_shouldRejectUnknownVariable() {
+        SlotResolver resolver = SlotResolver.resolve(new ParserImpl(new TokenizerImpl("done")).parse());
+
+        assertThat(resolver.names()).isEmpty();
+        assertThrows(IllegalStateException.class, () -> resolver.slotOf("x"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.upbeat_backend.game.plans.tokenizer;
+
+import com.example.upbeat_backend.game.exception.tokenizer.TokenizerException;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.model.enums.Special;
+import com.example.upbeat_backend.game.model.enums.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactTokenizerImplTest {
+
+    private static List<Token> drain(Tokenizer tokenizer) {
+        List<Token> tokens = new ArrayList<>();
+        while (tokenizer.hasNextToken()) {
+            tokens.add(tokenizer.consumeToken());
+        }
+        tokens.add(new Token("", Type.EOF, tokenizer.getPosition()));
+        return tokens;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "   \n\t ",
+        "if x = 10 then move else { }",
+        "t = t + 1 # keep track\nm = 0 while (deposit) { if (deposit - 100) then collect (deposit / 4) else done }",
+        "+ - * / ^ = % ( ) { }",
+        "rows cols currow curcol budget deposit int maxdeposit random",
+        "up upleft upright down downleft downright nearby opponent relocate shoot invest collect",
+        "iff whilex _up Up UP budget2 random_ opponent_x",
+        "x=1+2*(3-4)/5%6^7",
+        "# only a comment",
+        "# comment without newline at end\nx = 1 # trailing",
+        "\u00e9t\u00e9 = \u0e51\u0e52 + 3",
+        "x\u2003= 1\u3000+ 2",
+        "x = 1\u000B\f\u001Cy = 2",
+        "_ = 007 __a1 = 00"
+    })
+    void tokens_shouldMatchTokenizerImpl(String src) {
+        assertThat(drain(new CompactTokenizerImpl(src))).isEqualTo(drain(new TokenizerImpl(src)));
+    }
+
+    @Test
+    void keywordsAndSpecials_shouldAllBeRecognised() {
+        for (Keyword keyword : Keyword.values()) {
+            assertThat(new CompactTokenizerImpl(keyword.getLexeme()).peekType()).isEqualTo(Type.KEYWORD);
+        }
+        for (Special special : Special.values()) {
+            assertThat(new CompactTokenizerImpl(special.getLexeme()).peekType()).isEqualTo(Type.SPECIAL);
+        }
+    }
+
+    @Test
+    void keywordText_shouldBeSharedLexeme() {
+        Tokenizer tokenizer = new CompactTokenizerImpl("opponent");
+
+        assertThat(tokenizer.peekValue()).isSameAs(Keyword.OPPONENT.getLexeme());
+    }
+
+    @Test
+    void consumeString_shouldMatchWithoutMaterialisingIdentifier() {
+        Tokenizer tokenizer = new CompactTokenizerImpl("counter = 1");
+
+        assertThat(tokenizer.consume("count")).isFalse();
+        assertThat(tokenizer.consume("counters")).isFalse();
+        assertThat(tokenizer.consume("counter")).isTrue();
+        assertThat(tokenizer.consume("=")).isTrue();
+        assertThat(tokenizer.consumeType(Type.NUMBER)).isTrue();
+        assertThat(tokenizer.hasNextToken()).isFalse();
+    }
+
+    @Test
+    void unknownCharacter_shouldThrowLikeTokenizerImpl() {
+        TokenizerException.UnknownWord expected =
+                assertThrows(TokenizerException.UnknownWord.class, () -> drain(new TokenizerImpl("x = 1 $ 2")));
+        TokenizerException.UnknownWord actual =
+                assertThrows(TokenizerException.UnknownWord.class, () -> drain(new CompactTokenizerImpl("x = 1 $ 2")));
+
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    }
+
+    @Test
+    void peek_shouldThrowAtEndOfInput() {
+        Tokenizer tokenizer = new CompactTokenizerImpl("done");
+        tokenizer.consume();
+
+        assertThrows(TokenizerException.NextNull.class, tokenizer::peekValue);
+        assertThrows(TokenizerException.NextNull.class, tokenizer::consumeToken);
+        assertThrows(TokenizerException.NextNull.class, () -> tokenizer.consumeType(Type.EOF));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.upbeat_backend.game.dto.response.event.EventData;
 import com.example.upbeat_backend.game.dto.response.event.GameEvent;
 import com.example.upbeat_backend.game.model.Position;
 import com.example.upbeat_backend.game.model.enums.EventType;
+import com.example.upbeat_backend.game.model.enums.EventVerbosity;
 import com.example.upbeat_backend.game.model.enums.Keyword;
 import com.example.upbeat_backend.game.state.GameState;
 import com.example.upbeat_backend.repository.RedisGameStateRepository;
@@ -576,4 +577,63 @@ class GameEnvironmentImplTest {
         assertThat(randomData.random()).isEqualTo(42L);
         assertThat(randomData.position()).isEqualTo(position);
     }
-}
\ No newline at end of file
+
+    @Test
+    void specialReads_shouldReadPositionOnce() {
+        when(gameState.getPosition()).thenReturn(position);
+        when(gameState.getBudget()).thenReturn(1000L);
+
+        for (int i = 0; i < 500; i++) {
+            gameEnvironment.getBudget();
+        }
+
+        assertThat(gameEnvironment.getEvents()).hasSize(500);
+        verify(gameState, times(1)).getPosition();
+    }
+
+    @Test
+    void move_shouldRefreshPositionForLaterEvents() {
+        Position moved = new Position(4, 5);
+        when(gameState.getPosition()).thenReturn(position, moved);
+        when(gameState.move(Keyword.UP)).thenReturn(true);
+        when(gameState.getBudget()).thenReturn(1000L);
+
+        gameEnvironment.getBudget();
+        gameEnvironment.move(Keyword.UP);
+        gameEnvironment.getBudget();
+
+        List<GameEvent> events = gameEnvironment.getEvents();
+        assertThat(((EventData.Budget) events.get(0).data()).position()).isEqualTo(position);
+        assertThat(((EventData.Move) events.get(1).data()).position()).isEqualTo(moved);
+        assertThat(((EventData.Budget) events.get(2).data()).position()).isEqualTo(moved);
+    }
+
+    @Test
+    void actionsVerbosity_shouldSkipReadsWithoutTouchingPosition() {
+        GameEnvironmentImpl environment = new GameEnvironmentImpl(repository, GAME_ID, gameState, PLAYER_ID,
+                EventVerbosity.ACTIONS);
+        when(gameState.getBudget()).thenReturn(1000L);
+        when(gameState.opponent()).thenReturn(12L);
+
+        assertThat(environment.getBudget()).isEqualTo(1000L);
+        assertThat(environment.opponent()).isEqualTo(12L);
+
+        assertThat(environment.getEvents()).isEmpty();
+        verify(gameState, never()).getPosition();
+    }
+
+    @Test
+    void infoVerbosity_shouldKeepScansButNotReads() {
+        GameEnvironmentImpl environment = new GameEnvironmentImpl(repository, GAME_ID, gameState, PLAYER_ID,
+                EventVerbosity.INFO);
+        when(gameState.getPosition()).thenReturn(position);
+        when(gameState.nearby(Keyword.DOWN)).thenReturn(203L);
+
+        environment.getRandom();
+        environment.nearby(Keyword.DOWN);
+        environment.done();
+
+        assertThat(environment.getEvents()).extracting(GameEvent::eventType)
+                .containsExactly(EventType.NEARBY, EventType.DONE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.upbeat_backend.game.service;
+
+import com.example.upbeat_backend.game.exception.state.GameException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameMailboxTest {
+    private final GameMailbox mailbox = new GameMailbox();
+
+    @Test
+    void submit_shouldRunTasksForOneGameOneAtATimeInOrder() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            int task = i;
+            results.add(mailbox.submit("game-1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(task);
+                running.decrementAndGet();
+                return task;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(order).hasSize(200).isSorted();
+    }
+
+    @Test
+    void submit_shouldRunDifferentGamesInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable waitForOther = () -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("games ran serially");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        CompletableFuture<String> first = mailbox.submit("game-1", () -> { waitForOther.run(); return "a"; });
+        CompletableFuture<String> second = mailbox.submit("game-2", () -> { waitForOther.run(); return "b"; });
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    void call_shouldRethrowTaskException_andKeepServingTheGame() {
+        assertThrows(GameException.GameNotFound.class, () -> mailbox.call("game-1", () -> {
+            throw new GameException.GameNotFound("game-1");
+        }));
+
+        assertThat(mailbox.call("game-1", () -> 42)).isEqualTo(42);
+    }
+
+    @Test
+    void submit_shouldFailQueuedTasksAndRecover_whenExecutorRejectsTheDrain() {
+        AtomicInteger executions = new AtomicInteger();
+        GameMailbox rejecting = new GameMailbox(command -> {
+            if (executions.getAndIncrement() == 0) throw new RejectedExecutionException("executor is shut down");
+            Thread.ofVirtual().start(command);
+        });
+
+        assertThrows(RejectedExecutionException.class, () -> rejecting.call("game-1", () -> 1));
+
+        assertThat(rejecting.activeGames()).isZero();
+        assertThat(rejecting.call("game-1", () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    void mailbox_shouldBeDroppedOnceDrained() {
+        mailbox.call("game-1", () -> 1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mailbox.activeGames() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(mailbox.activeGames()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.upbeat_backend.game.service;
+
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.dto.response.journal.ReplayStateDTO;
+import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.model.enums.JournalEntryType;
+import com.example.upbeat_backend.repository.TurnJournalRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameReplayServiceTest {
+    private static final String GAME_ID = "test-game";
+
+    @Mock
+    private TurnJournalRepository journal;
+
+    @InjectMocks
+    private GameReplayService replayService;
+
+    @Test
+    void replay_shouldApplyTurnChangesOverStartState() {
+        JournalEntryDTO start = JournalEntryDTO.builder()
+                .type(JournalEntryType.START)
+                .sequence(0)
+                .turn(1)
+                .nextPlayerId("p1")
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .seed(42L)
+                .regions(Map.of(
+                        "1:1", new JournalEntryDTO.RegionState(100, "p1"),
+                        "5:5", new JournalEntryDTO.RegionState(100, "p2")))
+                .players(List.of(
+                        new JournalEntryDTO.PlayerState("p1", "A", 1000, 1, 1),
+                        new JournalEntryDTO.PlayerState("p2", "B", 1000, 5, 5)))
+                .build();
+        JournalEntryDTO turn = JournalEntryDTO.builder()
+                .type(JournalEntryType.TURN)
+                .sequence(1)
+                .turn(1)
+                .playerId("p1")
+                .nextPlayerId("p2")
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .regions(Map.of(
+                        "1:2", new JournalEntryDTO.RegionState(30, "p1"),
+                        "1:1", new JournalEntryDTO.RegionState(80, "p1")))
+                .players(List.of(
+                        new JournalEntryDTO.PlayerState("p1", "A", 948, 1, 1),
+                        new JournalEntryDTO.PlayerState("p2", "B", 1000, 5, 5)))
+                .build();
+        when(journal.getEntries(GAME_ID, 0, 1)).thenReturn(List.of(start, turn));
+
+        ReplayStateDTO state = replayService.replay(GAME_ID, 1);
+
+        assertThat(state.getSequence()).isEqualTo(1);
+        assertThat(state.getCurrentPlayerId()).isEqualTo("p2");
+        assertThat(state.getSeed()).isEqualTo(42L);
+        assertThat(state.getRegions()).containsOnly(
+                Map.entry("1:1", new JournalEntryDTO.RegionState(80, "p1")),
+                Map.entry("1:2", new JournalEntryDTO.RegionState(30, "p1")),
+                Map.entry("5:5", new JournalEntryDTO.RegionState(100, "p2")));
+        assertThat(state.getPlayers()).extracting(JournalEntryDTO.PlayerState::budget).containsExactly(948L, 1000L);
+    }
+
+    @Test
+    void replay_shouldFailWithoutStartEntry() {
+        when(journal.getEntries(GAME_ID, 0, 3)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> replayService.replay(GAME_ID, 3))
+                .isInstanceOf(GameException.JournalNotFound.class);
+    }
+}
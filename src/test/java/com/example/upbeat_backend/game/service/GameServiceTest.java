@@ -0,0 +1,148 @@
+package com.example.upbeat_backend.game.service;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.dto.response.event.ExecutionResult;
+import com.example.upbeat_backend.game.dto.response.game.GameResultNotificationDTO;
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.metrics.GameMetrics;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.plans.cache.PlanCache;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.repository.GameWriteBatch;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import com.example.upbeat_backend.repository.TurnJournalRepository;
+import com.example.upbeat_backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameServiceTest {
+    private static final String GAME_ID = "test-game";
+
+    @Mock
+    private RedisGameStateRepository repository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private GameNotificationService notificationService;
+
+    @Mock
+    private TurnJournalRepository journal;
+
+    @Mock
+    private GameWriteBatch batch;
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(repository, userService, notificationService, new PlanCache(16),
+                GameMetrics.noop(), journal);
+        gameService.setJournalEnabled(false);
+
+        GameInfoDTO info = GameInfoDTO.builder()
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .currentTurn(3)
+                .sequence(6)
+                .build();
+        when(repository.getGameInfo(GAME_ID)).thenReturn(info);
+        when(repository.getGameConfig(GAME_ID)).thenReturn(GameConfigDTO.builder()
+                .rows(5).cols(5).maxDep(1000L).interestPct(5).build());
+        when(repository.getTerritorySize(GAME_ID)).thenReturn(TerritorySizeDTO.builder().rows(5).cols(5).build());
+        when(repository.getGamePlayers(GAME_ID)).thenReturn(List.of("p1", "p2"));
+        when(repository.getAllRegions(GAME_ID)).thenReturn(Map.of());
+        when(repository.getCurrentState(GAME_ID)).thenReturn(CurrentStateDTO.builder()
+                .currentPlayerId("p2").currentRow(4).currentCol(4).build());
+        when(repository.getPlayerPlan(GAME_ID, "p2")).thenReturn("done");
+        when(repository.newWriteBatch(GAME_ID)).thenReturn(batch);
+    }
+
+    @Test
+    void executeCurrentPlan_shouldIncrementSequenceInTheTurnBatch() {
+        when(repository.getPlayer(GAME_ID, "p1")).thenReturn(new PlayerImpl("p1", "A", 100L, 1, 1));
+        when(repository.getPlayer(GAME_ID, "p2")).thenReturn(new PlayerImpl("p2", "B", 100L, 4, 4));
+
+        ExecutionResult result = gameService.executeCurrentPlan(GAME_ID, "p2");
+
+        assertThat(result.sequence()).isEqualTo(7L);
+        assertThat(result.nextPlayerId()).isEqualTo("p1");
+        InOrder inOrder = inOrder(batch);
+        inOrder.verify(batch).incrementTurn();
+        inOrder.verify(batch).updateCurrentPlayer(argThat(player -> player.getId().equals("p1")));
+        inOrder.verify(batch).incrementSequence();
+        inOrder.verify(batch).commit();
+        verify(batch, never()).setGameWinner(any());
+        verify(repository, never()).evictCachedGame(any());
+    }
+
+    @Test
+    void executeCurrentPlan_shouldFinishGameInTheTurnBatch_whenOnePlayerHasACityCenter() {
+        when(repository.getPlayer(GAME_ID, "p1")).thenReturn(new PlayerImpl("p1", "A", 100L, 1, 1));
+        when(repository.getPlayer(GAME_ID, "p2")).thenReturn(new PlayerImpl("p2", "B", 100L, -1, -1));
+
+        ExecutionResult result = gameService.executeCurrentPlan(GAME_ID, "p2");
+
+        assertThat(result.gameStatus()).isEqualTo(GameStatus.FINISHED);
+        assertThat(result.nextPlayerId()).isNull();
+        InOrder inOrder = inOrder(batch, notificationService);
+        inOrder.verify(batch).setGameWinner("p1");
+        inOrder.verify(batch).incrementSequence();
+        inOrder.verify(batch).commit();
+        ArgumentCaptor<GameResultNotificationDTO> notification = ArgumentCaptor.forClass(GameResultNotificationDTO.class);
+        inOrder.verify(notificationService).gameFinished(notification.capture(), eq(List.of("p1", "p2")));
+        assertThat(notification.getValue().getWinnerId()).isEqualTo("p1");
+        verify(batch, never()).updateCurrentPlayer(any());
+        verify(repository).evictCachedGame(GAME_ID);
+        verify(repository).expireGameData(GAME_ID, Duration.ofHours(24));
+    }
+
+    @Test
+    void executeCurrentPlan_shouldJournalThePlayedTurnInTheTurnBatch() {
+        gameService.setJournalEnabled(true);
+        when(repository.getPlayer(GAME_ID, "p1")).thenReturn(new PlayerImpl("p1", "A", 100L, 1, 1));
+        when(repository.getPlayer(GAME_ID, "p2")).thenReturn(new PlayerImpl("p2", "B", 100L, 4, 4));
+        when(journal.savePlan(batch, GAME_ID, "done")).thenReturn("plan-hash");
+
+        gameService.executeCurrentPlan(GAME_ID, "p2");
+
+        ArgumentCaptor<JournalEntryDTO> entry = ArgumentCaptor.forClass(JournalEntryDTO.class);
+        InOrder inOrder = inOrder(batch, journal);
+        inOrder.verify(batch).incrementTurn();
+        inOrder.verify(journal).append(eq(batch), eq(GAME_ID), entry.capture());
+        inOrder.verify(batch).commit();
+        assertThat(entry.getValue().getTurn()).isEqualTo(3);
+        assertThat(entry.getValue().getSequence()).isEqualTo(7L);
+        assertThat(entry.getValue().getPlanHash()).isEqualTo("plan-hash");
+        assertThat(entry.getValue().getNextPlayerId()).isEqualTo("p1");
+        verify(journal, never()).append(eq(GAME_ID), any());
+    }
+
+    @Test
+    void executeCurrentPlan_shouldKeepFinishedGame_whenRetentionIsDisabled() {
+        gameService.setFinishedGameTtl(Duration.ZERO);
+        when(repository.getPlayer(GAME_ID, "p1")).thenReturn(new PlayerImpl("p1", "A", 100L, 1, 1));
+        when(repository.getPlayer(GAME_ID, "p2")).thenReturn(new PlayerImpl("p2", "B", 100L, -1, -1));
+
+        gameService.executeCurrentPlan(GAME_ID, "p2");
+
+        verify(repository, never()).expireGameData(any(), any());
+    }
+}
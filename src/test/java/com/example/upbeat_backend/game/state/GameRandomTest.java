@@ -0,0 +1,55 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameRandomTest {
+
+    @Test
+    void sameSeedAndPosition_shouldReplaySameSequence() {
+        GameRandom first = new GameRandom(99L, 0);
+        for (int i = 0; i < 10; i++) first.nextInt(1000);
+
+        GameRandom resumed = new GameRandom(99L, first.getPosition());
+        GameRandom replayed = new GameRandom(99L, 0);
+        for (int i = 0; i < 10; i++) replayed.nextInt(1000);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(resumed.nextInt(1000)).isEqualTo(replayed.nextInt(1000));
+        }
+        assertThat(resumed.getPosition()).isEqualTo(110);
+    }
+
+    @Test
+    void nextInt_shouldStayInBoundsAndSpreadValues() {
+        GameRandom random = new GameRandom(7L, 0);
+        int[] buckets = new int[10];
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(10);
+            assertThat(value).isBetween(0, 9);
+            buckets[value]++;
+        }
+        for (int count : buckets) {
+            assertThat(count).isBetween(800, 1200);
+        }
+    }
+
+    @Test
+    void differentSeeds_shouldGiveDifferentStreams() {
+        assertThat(GameRandom.at(1L, 0)).isNotEqualTo(GameRandom.at(2L, 0));
+        assertThat(GameRandom.at(1L, 0)).isNotEqualTo(GameRandom.at(1L, 1));
+    }
+
+    @Test
+    void forGame_shouldFallBackToIdSeedForOlderGames() {
+        GameInfoDTO legacy = GameInfoDTO.builder().randomPosition(4).build();
+
+        GameRandom random = GameRandom.forGame("game-1", legacy);
+
+        assertThat(random.getSeed()).isEqualTo(GameRandom.seedOf("game-1"));
+        assertThat(random.getPosition()).isEqualTo(4);
+        assertThat(GameRandom.forGame("game-1", null).getSeed()).isEqualTo(GameRandom.seedOf("game-1"));
+    }
+}
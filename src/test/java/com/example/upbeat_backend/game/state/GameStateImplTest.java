@@ -18,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.ArgumentCaptor;
@@ -27,6 +28,7 @@ import org.mockito.stubbing.Answer;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +44,9 @@ class GameStateImplTest {
     @Mock
     private UserService userService;
 
+    @Captor
+    private ArgumentCaptor<Collection<Region>> regionsCaptor;
+
     private GameStateImpl gameState;
     private CurrentStateDTO currentState;
     private Player player;
@@ -824,11 +829,19 @@ class GameStateImplTest {
 
         when(repository.getAllRegions(GAME_ID)).thenReturn(regionMap);
 
-        gameState.calculateInterest();
+        InterestSummary summary = gameState.calculateInterest();
 
-        verify(repository).updateRegion(GAME_ID, 2, 3, 146L, PLAYER_ID); // 100 + (100 * 10 / 100) = 110
-        verify(repository).updateRegion(GAME_ID, 4, 5, 306L, PLAYER_ID); // 200 + (200 * 10 / 100) = 220
-        verify(repository).updateRegion(GAME_ID, 8, 9, 471L, "another-player");
+        assertThat(summary).isEqualTo(new InterestSummary(3, 46 + 106 + 171));
+        verify(repository, times(1)).getGameConfig(GAME_ID);
+        verify(repository, times(1)).getGameInfo(GAME_ID);
+        verify(repository).updateRegions(eq(GAME_ID), regionsCaptor.capture());
+        verify(repository, never()).updateRegion(anyString(), anyInt(), anyInt(), anyLong(), any());
+        assertThat(regionsCaptor.getValue())
+                .extracting(Region::getRow, Region::getCol, Region::getDeposit, Region::getOwner)
+                .containsExactlyInAnyOrder(
+                        tuple(2, 3, 146L, PLAYER_ID),
+                        tuple(4, 5, 306L, PLAYER_ID),
+                        tuple(8, 9, 471L, "another-player"));
     }
 
     private static @NotNull Map<String, Region> getStringRegionMap() {
@@ -869,9 +882,11 @@ class GameStateImplTest {
 
         when(repository.getAllRegions(GAME_ID)).thenReturn(regionMap);
 
-        gameState.calculateInterest();
+        InterestSummary summary = gameState.calculateInterest();
 
-        verify(repository).updateRegion(GAME_ID, 2, 3, 500, PLAYER_ID);
+        assertThat(summary).isEqualTo(new InterestSummary(1, 10));
+        verify(repository).updateRegions(eq(GAME_ID), regionsCaptor.capture());
+        assertThat(regionsCaptor.getValue()).extracting(Region::getDeposit).containsExactly(500L);
     }
 
     @Test
@@ -879,9 +894,10 @@ class GameStateImplTest {
         Map<String, Region> emptyRegionMap = new HashMap<>();
         when(repository.getAllRegions(GAME_ID)).thenReturn(emptyRegionMap);
 
-        gameState.calculateInterest();
+        assertThat(gameState.calculateInterest()).isEqualTo(InterestSummary.NONE);
 
-        verify(repository, never()).updateRegion(anyString(), anyInt(), anyInt(), anyLong(), any());
+        verify(repository, never()).updateRegions(anyString(), any());
+        verify(repository, never()).getGameConfig(anyString());
     }
 
     @Test
@@ -0,0 +1,280 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+import com.example.upbeat_backend.game.state.territory.HexGrid;
+import com.example.upbeat_backend.repository.GameWriteBatch;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryGameStateImplTest {
+
+    private static final String GAME_ID = "test-game";
+    private static final String PLAYER_ID = "player-1";
+    private static final String OPPONENT_ID = "player-2";
+
+    @Mock
+    private RedisGameStateRepository repository;
+
+    private Map<String, Region> regions;
+    private Player player;
+    private Player opponent;
+
+    @BeforeEach
+    void setUp() {
+        regions = new HashMap<>();
+        player = new PlayerImpl(PLAYER_ID, "Player1", 100, 5, 5);
+        opponent = new PlayerImpl(OPPONENT_ID, "Player2", 100, 2, 5);
+        putRegion(5, 5, 50, PLAYER_ID);
+        putRegion(2, 5, 30, OPPONENT_ID);
+    }
+
+    private void putRegion(int row, int col, long deposit, String owner) {
+        Region region = new RegionImpl(1000, row, col);
+        region.updateDeposit(deposit);
+        region.updateOwner(owner);
+        regions.put(row + ":" + col, region);
+    }
+
+    private InMemoryGameStateImpl load() {
+        return load(GameInfoDTO.builder()
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .currentTurn(10)
+                .build());
+    }
+
+    private InMemoryGameStateImpl load(GameInfoDTO info) {
+        when(repository.getGameInfo(GAME_ID)).thenReturn(info);
+        when(repository.getGameConfig(GAME_ID)).thenReturn(GameConfigDTO.builder()
+                .rows(10).cols(10).maxDep(1000).interestPct(10).build());
+        when(repository.getTerritorySize(GAME_ID)).thenReturn(TerritorySizeDTO.builder().rows(10).cols(10).build());
+        when(repository.getGamePlayers(GAME_ID)).thenReturn(List.of(PLAYER_ID, OPPONENT_ID));
+        when(repository.getPlayer(GAME_ID, PLAYER_ID)).thenReturn(player);
+        when(repository.getPlayer(GAME_ID, OPPONENT_ID)).thenReturn(opponent);
+        when(repository.getAllRegions(GAME_ID)).thenReturn(regions);
+        when(repository.getCurrentState(GAME_ID)).thenReturn(CurrentStateDTO.builder()
+                .currentPlayerId(PLAYER_ID).currentRow(5).currentCol(5).build());
+        return InMemoryGameStateImpl.load(GAME_ID, repository);
+    }
+
+    @Test
+    void load_shouldNotTouchRedis_whenReadingState() {
+        InMemoryGameStateImpl gameState = load();
+        clearInvocations(repository);
+
+        assertThat(gameState.getBudget()).isEqualTo(100);
+        assertThat(gameState.getDeposit()).isEqualTo(50);
+        assertThat(gameState.getPosition()).isEqualTo(new Position(5, 5));
+        assertThat(gameState.getRows()).isEqualTo(10);
+        assertThat(gameState.getMaxDeposit()).isEqualTo(1000);
+        assertThat(gameState.getTerritory()).hasSize(2);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void move_shouldUpdatePositionAndChargeOne() {
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.move(Keyword.DOWN)).isTrue();
+
+        assertThat(gameState.getPosition()).isEqualTo(new Position(6, 5));
+        assertThat(gameState.getBudget()).isEqualTo(99);
+    }
+
+    @Test
+    void move_shouldFail_whenTargetIsRivalLand() {
+        putRegion(4, 5, 10, OPPONENT_ID);
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.move(Keyword.UP)).isFalse();
+        assertThat(gameState.getPosition()).isEqualTo(new Position(5, 5));
+    }
+
+    @Test
+    void invest_shouldRequireAdjacentOwnedRegion() {
+        InMemoryGameStateImpl gameState = load();
+        gameState.move(Keyword.DOWN);
+
+        assertThat(gameState.invest(20)).isEqualTo(20);
+        assertThat(gameState.getDeposit()).isEqualTo(20);
+        assertThat(gameState.getBudget()).isEqualTo(100 - 1 - 1 - 20);
+
+        gameState.move(Keyword.DOWN);
+        gameState.move(Keyword.DOWN);
+        assertThat(gameState.invest(20)).isZero();
+    }
+
+    @Test
+    void collect_shouldReleaseRegion_whenWholeDepositIsCollected() {
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.collect(50)).isEqualTo(50);
+
+        assertThat(gameState.getDeposit()).isZero();
+        assertThat(gameState.getBudget()).isEqualTo(149);
+        assertThat(gameState.getTerritory().get("5:5").getOwner()).isNull();
+    }
+
+    @Test
+    void opponent_shouldEncodeDirectionAndDistance() {
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.opponent()).isEqualTo(13);
+    }
+
+    @Test
+    void opponent_shouldPreferLowerDirection_evenWhenFarther() {
+        putRegion(5, 6, 10, OPPONENT_ID);
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.opponent()).isEqualTo(13);
+    }
+
+    @Test
+    void opponent_shouldMatchIndependentRayWalks() {
+        Random random = new Random(42);
+        HexGrid grid = HexGrid.of(10, 10);
+        for (int round = 0; round < 200; round++) {
+            regions.clear();
+            putRegion(5, 5, 50, PLAYER_ID);
+            for (int i = 0; i < 6; i++) {
+                int row = 1 + random.nextInt(10);
+                int col = 1 + random.nextInt(10);
+                if (row == 5 && col == 5) continue;
+                putRegion(row, col, 10, random.nextBoolean() ? OPPONENT_ID : PLAYER_ID);
+            }
+
+            long expected = 0;
+            for (int d = 0; d < HexGrid.DIRECTIONS; d++) {
+                int distance = 1;
+                for (int cell = grid.neighbor(44, d); cell != HexGrid.OFF_MAP; cell = grid.neighbor(cell, d), distance++) {
+                    Region region = regions.get((cell / 10 + 1) + ":" + (cell % 10 + 1));
+                    if (region != null && OPPONENT_ID.equals(region.getOwner())) {
+                        long result = (long) (d + 1) * 10 + distance;
+                        if (expected == 0 || result < expected) expected = result;
+                        break;
+                    }
+                }
+            }
+
+            assertThat(load().opponent()).as("round %d", round).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void nearby_shouldReturnDistanceAndDepositDigit() {
+        InMemoryGameStateImpl gameState = load();
+
+        assertThat(gameState.nearby(Keyword.UP)).isEqualTo(300);
+        assertThat(gameState.nearby(Keyword.DOWN)).isZero();
+    }
+
+    @Test
+    void shoot_shouldDestroyCityCenterAndClearOwnership() {
+        putRegion(1, 1, 40, OPPONENT_ID);
+        InMemoryGameStateImpl gameState = load();
+        gameState.move(Keyword.UP);
+        gameState.move(Keyword.UP);
+
+        assertThat(gameState.shoot(Keyword.UP, 30)).isEqualTo(30);
+
+        Map<String, Region> territory = gameState.getTerritory();
+        assertThat(territory.get("2:5").getOwner()).isNull();
+        assertThat(territory.get("2:5").getDeposit()).isZero();
+        assertThat(territory.get("1:1").getOwner()).isNull();
+        assertThat(territory.get("1:1").getDeposit()).isEqualTo(40);
+    }
+
+    @Test
+    void calculateInterest_shouldMatchRedisImplementation() {
+        regions.clear();
+        putRegion(2, 3, 100, PLAYER_ID);
+        putRegion(4, 5, 200, PLAYER_ID);
+        putRegion(6, 7, 50, null);
+        InMemoryGameStateImpl gameState = load();
+
+        InterestSummary summary = gameState.calculateInterest();
+
+        assertThat(summary).isEqualTo(new InterestSummary(2, 46 + 106));
+        Map<String, Region> territory = gameState.getTerritory();
+        assertThat(territory.get("2:3").getDeposit()).isEqualTo(146);
+        assertThat(territory.get("4:5").getDeposit()).isEqualTo(306);
+        assertThat(territory.get("6:7").getDeposit()).isEqualTo(50);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteOnlyChangedStateInOneBatch() {
+        GameWriteBatch batch = mock(GameWriteBatch.class);
+        when(repository.newWriteBatch(GAME_ID)).thenReturn(batch);
+        InMemoryGameStateImpl gameState = load();
+        gameState.move(Keyword.DOWN);
+        gameState.invest(20);
+
+        gameState.flush();
+
+        ArgumentCaptor<Collection<Region>> regionCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(batch).updateRegions(regionCaptor.capture());
+        assertThat(regionCaptor.getValue()).extracting(Region::getRow, Region::getCol, Region::getDeposit, Region::getOwner)
+                .containsExactly(tuple(6, 5, 20L, PLAYER_ID));
+
+        ArgumentCaptor<Player> playerCaptor = ArgumentCaptor.forClass(Player.class);
+        verify(batch).savePlayer(playerCaptor.capture());
+        assertThat(playerCaptor.getValue().getId()).isEqualTo(PLAYER_ID);
+        assertThat(playerCaptor.getValue().getBudget()).isEqualTo(78);
+
+        verify(batch).updateCurrentPosition(6, 5);
+        verify(batch).commit();
+        verify(repository, never()).updateRegions(any(), any());
+
+        clearInvocations(repository, batch);
+        assertThat(gameState.hasChanges()).isFalse();
+        gameState.flush();
+        verifyNoInteractions(repository, batch);
+    }
+
+    @Test
+    void getRandom_shouldContinueGameStreamAndPersistPosition() {
+        GameWriteBatch batch = mock(GameWriteBatch.class);
+        when(repository.newWriteBatch(GAME_ID)).thenReturn(batch);
+        InMemoryGameStateImpl gameState = load(GameInfoDTO.builder()
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .currentTurn(10)
+                .seed(42L)
+                .randomPosition(3)
+                .build());
+
+        GameRandom expected = new GameRandom(42L, 3);
+        assertThat(gameState.getRandom()).isEqualTo(expected.nextInt(1000));
+        assertThat(gameState.getRandom()).isEqualTo(expected.nextInt(1000));
+        assertThat(gameState.hasChanges()).isTrue();
+
+        gameState.flush();
+
+        verify(batch).updateRandomPosition(5);
+        verify(batch).commit();
+    }
+}
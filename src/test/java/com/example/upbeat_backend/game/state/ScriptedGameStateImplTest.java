@@ -0,0 +1,122 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+import com.example.upbeat_backend.repository.GameScript;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import com.example.upbeat_backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScriptedGameStateImplTest {
+    private static final String GAME_ID = "test-game";
+
+    @Mock
+    private RedisGameStateRepository repository;
+
+    @Mock
+    private UserService userService;
+
+    private ScriptedGameStateImpl gameState;
+
+    @BeforeEach
+    void setUp() {
+        gameState = new ScriptedGameStateImpl(GAME_ID, repository, userService);
+    }
+
+    @Test
+    void commands_shouldRunTheirScriptWithArguments() {
+        when(repository.runScript(eq(GAME_ID), any(GameScript.class), any(Object[].class)))
+                .thenReturn(new GameScript.Result(7, List.of()));
+
+        assertThat(gameState.relocate()).isEqualTo(7);
+        assertThat(gameState.move(Keyword.UP)).isTrue();
+        assertThat(gameState.invest(100)).isEqualTo(7);
+        assertThat(gameState.collect(20)).isEqualTo(7);
+        assertThat(gameState.shoot(Keyword.DOWNLEFT, 30)).isEqualTo(7);
+        assertThat(gameState.opponent()).isEqualTo(7);
+        assertThat(gameState.nearby(Keyword.UPRIGHT)).isEqualTo(7);
+
+        verify(repository).runScript(GAME_ID, GameScript.RELOCATE);
+        verify(repository).runScript(GAME_ID, GameScript.MOVE, "UP");
+        verify(repository).runScript(GAME_ID, GameScript.INVEST, 100L);
+        verify(repository).runScript(GAME_ID, GameScript.COLLECT, 20L);
+        verify(repository).runScript(GAME_ID, GameScript.SHOOT, "DOWNLEFT", 30L);
+        verify(repository).runScript(GAME_ID, GameScript.OPPONENT);
+        verify(repository).runScript(GAME_ID, GameScript.NEARBY, "UPRIGHT");
+    }
+
+    @Test
+    void move_shouldReturnFalseWhenScriptRejects() {
+        when(repository.runScript(GAME_ID, GameScript.MOVE, "DOWN")).thenReturn(new GameScript.Result(0, List.of()));
+
+        assertThat(gameState.move(Keyword.DOWN)).isFalse();
+    }
+
+    @Test
+    void nonPositiveAmounts_shouldNotCallRedis() {
+        assertThat(gameState.invest(0)).isZero();
+        assertThat(gameState.collect(-5)).isZero();
+        assertThat(gameState.shoot(Keyword.UP, 0)).isZero();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getChangedRegions_shouldReturnCellsWrittenByScripts() {
+        when(repository.runScript(GAME_ID, GameScript.INVEST, 50L))
+                .thenReturn(new GameScript.Result(50, List.of("2:3")));
+        when(repository.runScript(GAME_ID, GameScript.SHOOT, "UP", 10L))
+                .thenReturn(new GameScript.Result(10, List.of("1:3", "2:3")));
+        Region invested = new RegionImpl(1000, 2, 3);
+        Region shot = new RegionImpl(1000, 1, 3);
+        when(repository.getRegions(GAME_ID, Set.of("2:3", "1:3"))).thenReturn(Map.of("2:3", invested, "1:3", shot));
+
+        gameState.invest(50);
+        gameState.shoot(Keyword.UP, 10);
+
+        assertThat(gameState.getChangedRegions()).containsOnlyKeys("2:3", "1:3");
+        verify(repository, never()).getAllRegions(any());
+    }
+
+    @Test
+    void calculateInterest_shouldRunInterestScriptWithCurrentTurn() {
+        when(repository.getGameInfo(GAME_ID)).thenReturn(GameInfoDTO.builder().currentTurn(4).build());
+        when(repository.runScript(GAME_ID, GameScript.INTEREST, 4))
+                .thenReturn(new GameScript.Result(27, List.of("2:2", "2:3")));
+        when(repository.getRegions(GAME_ID, Set.of("2:2", "2:3")))
+                .thenReturn(Map.of("2:2", new RegionImpl(1000, 2, 2), "2:3", new RegionImpl(1000, 2, 3)));
+
+        assertThat(gameState.calculateInterest()).isEqualTo(new InterestSummary(2, 27));
+        assertThat(gameState.getChangedRegions()).containsOnlyKeys("2:2", "2:3");
+        verify(repository, never()).updateRegions(any(), any());
+    }
+
+    @Test
+    void calculateInterest_shouldReturnNoneWhenNothingIsOwned() {
+        when(repository.getGameInfo(GAME_ID)).thenReturn(GameInfoDTO.builder().currentTurn(4).build());
+        when(repository.runScript(GAME_ID, GameScript.INTEREST, 4)).thenReturn(new GameScript.Result(0, List.of()));
+
+        assertThat(gameState.calculateInterest()).isEqualTo(InterestSummary.NONE);
+    }
+
+    @Test
+    void getChangedRegions_shouldSkipReadWhenNothingChanged() {
+        assertThat(gameState.getChangedRegions()).isEmpty();
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.upbeat_backend.game.state;
+
+import com.example.upbeat_backend.config.RedisConfig;
+import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.example.upbeat_backend.game.state.player.Player;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+import com.example.upbeat_backend.repository.RedisGameStateRepository;
+import com.example.upbeat_backend.repository.RegionFormat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.*;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every command through the Lua scripts of {@link ScriptedGameStateImpl} on a real Redis and
+ * through {@link InMemoryGameStateImpl} from the same starting game, and expects both to leave the
+ * same result, budgets, city centers, position, regions and ownership sets behind.
+ */
+class ScriptedGameStateRedisTest {
+    private static final String GAME_ID = "diff-game";
+    private static final int ROWS = 6;
+    private static final int COLS = 6;
+    private static final long MAX_DEPOSIT = 250;
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (server != null) server.stop();
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("scenarios")
+    void scriptedCommand_shouldMatchInMemoryCommand(RegionFormat format, Scenario scenario) {
+        RedisGameStateRepository scripted = seed(format, scenario);
+        long scriptedResult = scenario.command().applyAsLong(
+                new ScriptedGameStateImpl(GAME_ID, scripted, null));
+        GameOutcome expectedByScript = outcome(scripted, scriptedResult);
+
+        RedisGameStateRepository inMemory = seed(format, scenario);
+        InMemoryGameStateImpl memoryState = InMemoryGameStateImpl.load(GAME_ID, inMemory);
+        long memoryResult = scenario.command().applyAsLong(memoryState);
+        memoryState.flush();
+        GameOutcome expectedInMemory = outcome(inMemory, memoryResult);
+
+        assertThat(expectedByScript).isEqualTo(expectedInMemory);
+    }
+
+    @ParameterizedTest(name = "{0} turn {1}")
+    @MethodSource("interestTurns")
+    void scriptedInterest_shouldMatchInMemoryInterest(RegionFormat format, int turn) {
+        RedisGameStateRepository scripted = seed(format, new Scenario("interest", 3, 3, 10, state -> 0));
+        redisTemplate.opsForHash().put("game:" + GAME_ID + ":info", "currentTurn", turn);
+        InterestSummary scriptedSummary = new ScriptedGameStateImpl(GAME_ID, scripted, null).calculateInterest();
+        GameOutcome expectedByScript = outcome(scripted, scriptedSummary.totalInterest());
+
+        RedisGameStateRepository inMemory = seed(format, new Scenario("interest", 3, 3, 10, state -> 0));
+        redisTemplate.opsForHash().put("game:" + GAME_ID + ":info", "currentTurn", turn);
+        InMemoryGameStateImpl memoryState = InMemoryGameStateImpl.load(GAME_ID, inMemory);
+        InterestSummary memorySummary = memoryState.calculateInterest();
+        memoryState.flush();
+        GameOutcome expectedInMemory = outcome(inMemory, memorySummary.totalInterest());
+
+        assertThat(scriptedSummary).isEqualTo(memorySummary);
+        assertThat(expectedByScript).isEqualTo(expectedInMemory);
+    }
+
+    @ParameterizedTest
+    @MethodSource("formats")
+    void scriptedCommands_shouldKeepOwnershipSetsInStepWithRegions(RegionFormat format) {
+        RedisGameStateRepository repository = seed(format, new Scenario("sequence", 4, 5, 5_000, state -> 0));
+        ScriptedGameStateImpl state = new ScriptedGameStateImpl(GAME_ID, repository, null);
+
+        state.shoot(Keyword.DOWN, 30);
+        redisTemplate.opsForHash().putAll("game:" + GAME_ID + ":currentState", Map.of("currentRow", 2, "currentCol", 3));
+        state.invest(20);
+        state.relocate();
+        state.collect(60);
+
+        GameOutcome outcome = outcome(repository, 0);
+        for (String playerId : List.of("p1", "p2")) {
+            Set<String> owned = new HashSet<>();
+            outcome.regions().forEach((cell, region) -> {
+                if (playerId.equals(region.owner())) owned.add(cell);
+            });
+            assertThat(outcome.ownership().get(playerId)).as(playerId).isEqualTo(owned);
+        }
+        assertThat(outcome.ownership().get("p2")).isEmpty();
+        assertThat(state.getChangedRegions()).containsKeys("5:5", "2:3", "2:2")
+                .allSatisfy((cell, region) -> assertThat(region.getOwner())
+                        .isEqualTo(outcome.regions().containsKey(cell) ? outcome.regions().get(cell).owner() : null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("formats")
+    void scriptedRegions_shouldDecodeWithTheRepositoryFormat(RegionFormat format) {
+        RedisGameStateRepository repository = seed(format, new Scenario("encode", 3, 3, 1_000, state -> 0));
+        ScriptedGameStateImpl state = new ScriptedGameStateImpl(GAME_ID, repository, null);
+
+        state.invest(120);
+        state.shoot(Keyword.DOWN, 3);
+
+        Map<Object, Object> raw = redisTemplate.opsForHash().entries("game:" + GAME_ID + ":territory:regions");
+        for (Object value : raw.values()) {
+            assertThat(value).isInstanceOf(format == RegionFormat.PACKED ? Number.class : Map.class);
+        }
+        Region invested = repository.getRegion(GAME_ID, 3, 3);
+        assertThat(invested.getDeposit()).isEqualTo(120);
+        assertThat(invested.getOwner()).isEqualTo("p1");
+    }
+
+    @Test
+    void packedScripts_shouldResolveOwnersBySlotAfterAPlayerLeaves() {
+        RedisGameStateRepository repository = seed(RegionFormat.PACKED, new Scenario("slots", 4, 5, 100, state -> 0));
+        Object packed = redisTemplate.opsForHash().get("game:" + GAME_ID + ":territory:regions", "5:5");
+
+        assertThat(((Number) packed).longValue()).isEqualTo(30L * 256 + 3);
+        assertThat(new ScriptedGameStateImpl(GAME_ID, repository, null).nearby(Keyword.DOWN)).isEqualTo(100);
+    }
+
+    static Stream<RegionFormat> formats() {
+        return Stream.of(RegionFormat.JSON, RegionFormat.PACKED);
+    }
+
+    static Stream<Arguments> interestTurns() {
+        return formats().flatMap(format -> Stream.of(1, 2, 7, 40).map(turn -> Arguments.of(format, turn)));
+    }
+
+    static Stream<Arguments> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        int[][] positions = { { 1, 1 }, { 2, 3 }, { 3, 3 }, { 4, 4 }, { 4, 5 }, { 5, 4 }, { 6, 6 }, { 0, 0 } };
+
+        for (int[] at : positions) {
+            scenarios.add(new Scenario("relocate", at[0], at[1], 1_000, GameState::relocate));
+            scenarios.add(new Scenario("opponent", at[0], at[1], 10, GameState::opponent));
+            for (Keyword direction : directions()) {
+                scenarios.add(new Scenario("move " + direction, at[0], at[1], 10, state -> state.move(direction) ? 1 : 0));
+                scenarios.add(new Scenario("nearby " + direction, at[0], at[1], 10, state -> state.nearby(direction)));
+                for (long money : new long[] { 12, 30, 200 }) {
+                    scenarios.add(new Scenario("shoot " + direction + " " + money, at[0], at[1], 100,
+                            state -> state.shoot(direction, money)));
+                }
+            }
+            for (long amount : new long[] { 1, 40, 41, 500 }) {
+                scenarios.add(new Scenario("invest " + amount, at[0], at[1], 1_000, state -> state.invest(amount)));
+                scenarios.add(new Scenario("collect " + amount, at[0], at[1], 10, state -> state.collect(amount)));
+            }
+        }
+
+        // Budget checks: nothing to pay with, just enough for the command fee, or not enough for the cost.
+        for (long budget : new long[] { 0, 1, 20 }) {
+            scenarios.add(new Scenario("relocate", 2, 3, budget, GameState::relocate));
+            scenarios.add(new Scenario("move DOWN", 3, 3, budget, state -> state.move(Keyword.DOWN) ? 1 : 0));
+            scenarios.add(new Scenario("invest 19", 3, 3, budget, state -> state.invest(19)));
+            scenarios.add(new Scenario("collect 7", 3, 2, budget, state -> state.collect(7)));
+            scenarios.add(new Scenario("shoot DOWN 19", 4, 5, budget, state -> state.shoot(Keyword.DOWN, 19)));
+            scenarios.add(new Scenario("opponent", 3, 3, budget, GameState::opponent));
+            scenarios.add(new Scenario("nearby DOWNRIGHT", 3, 3, budget, state -> state.nearby(Keyword.DOWNRIGHT)));
+        }
+
+        return formats().flatMap(format -> scenarios.stream().map(scenario -> Arguments.of(format, scenario)));
+    }
+
+    private static List<Keyword> directions() {
+        return List.of(Keyword.UP, Keyword.UPRIGHT, Keyword.DOWNRIGHT, Keyword.DOWN, Keyword.DOWNLEFT, Keyword.UPLEFT);
+    }
+
+    /**
+     * p1 and p2 play on a 6x6 map; p3 joined between them and left, so p2 holds owner slot 3 while
+     * being the second entry of the player list.
+     */
+    private static RedisGameStateRepository seed(RegionFormat format, Scenario scenario) {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+
+        RedisGameStateRepository repository = new RedisGameStateRepository(redisTemplate);
+        repository.setRegionFormat(format.name());
+        repository.initializeGameInfo(GAME_ID, 3, 42L);
+        repository.saveGameConfig(GAME_ID, GameConfigDTO.builder()
+                .rows(ROWS).cols(COLS).maxDep(MAX_DEPOSIT).interestPct(5).revCost(10L).build());
+        repository.saveTerritorySize(GAME_ID, ROWS, COLS);
+        for (String playerId : List.of("p1", "p3", "p2")) {
+            repository.addPlayerToGame(GAME_ID, playerId);
+        }
+        repository.removePlayerFromGame(GAME_ID, "p3");
+
+        repository.savePlayer(GAME_ID, new PlayerImpl("p1", "One", scenario.budget(), 2, 2));
+        repository.savePlayer(GAME_ID, new PlayerImpl("p2", "Two", 500, 5, 5));
+        repository.updateRegions(GAME_ID, List.of(
+                region(2, 2, 100, "p1"), region(2, 3, 40, "p1"), region(3, 2, 7, "p1"),
+                region(5, 5, 30, "p2"), region(5, 4, 12, "p2"), region(6, 5, 200, "p2"),
+                region(1, 4, 9, null)));
+        repository.saveCurrentState(GAME_ID, "p1", scenario.row(), scenario.col());
+        return repository;
+    }
+
+    private static Region region(int row, int col, long deposit, String owner) {
+        Region region = new RegionImpl(MAX_DEPOSIT, row, col);
+        region.updateDeposit(deposit);
+        if (owner != null) region.updateOwner(owner);
+        return region;
+    }
+
+    private static GameOutcome outcome(RedisGameStateRepository repository, long result) {
+        Map<String, PlayerState> players = new TreeMap<>();
+        Map<String, Set<String>> ownership = new TreeMap<>();
+        for (String playerId : List.of("p1", "p2")) {
+            Player player = repository.getPlayer(GAME_ID, playerId);
+            players.put(playerId, new PlayerState(player.getBudget(), player.getCityCenterRow(), player.getCityCenterCol()));
+            ownership.put(playerId, repository.getOwnedRegions(GAME_ID, playerId));
+        }
+
+        // A cell that is absent and one stored with no deposit and no owner are the same region.
+        Map<String, RegionState> regions = new TreeMap<>();
+        repository.getAllRegions(GAME_ID).forEach((cell, region) -> {
+            if (region.getDeposit() != 0 || region.getOwner() != null) {
+                regions.put(cell, new RegionState(region.getDeposit(), region.getOwner()));
+            }
+        });
+
+        CurrentStateDTO currentState = repository.getCurrentState(GAME_ID);
+        return new GameOutcome(result, players, currentState.getCurrentRow(), currentState.getCurrentCol(),
+                regions, ownership);
+    }
+
+    record Scenario(String name, int row, int col, long budget, ToLongFunction<GameState> command) {
+        @Override
+        public String toString() {
+            return name + " at " + row + ":" + col + " with budget " + budget;
+        }
+    }
+
+    private record PlayerState(long budget, int cityCenterRow, int cityCenterCol) {
+    }
+
+    private record RegionState(long deposit, String owner) {
+    }
+
+    private record GameOutcome(long result, Map<String, PlayerState> players, int row, int col,
+                               Map<String, RegionState> regions, Map<String, Set<String>> ownership) {
+    }
+}
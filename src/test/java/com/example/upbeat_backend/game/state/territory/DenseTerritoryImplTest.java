@@ -0,0 +1,165 @@
+package com.example.upbeat_backend.game.state.territory;
+
+import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
+import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DenseTerritoryImplTest {
+
+    private static final String PLAYER_ID = "player1";
+    private static final String OPPONENT_ID = "player2";
+
+    private DenseTerritoryImpl territory;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Region> regions = new HashMap<>();
+        Region owned = new RegionImpl(1000L, 2, 3);
+        owned.updateDeposit(100);
+        owned.updateOwner(PLAYER_ID);
+        regions.put("2:3", owned);
+        Region rival = new RegionImpl(1000L, 4, 4);
+        rival.updateDeposit(50);
+        rival.updateOwner(OPPONENT_ID);
+        regions.put("4:4", rival);
+
+        territory = DenseTerritoryImpl.from(TerritorySizeDTO.builder().rows(5).cols(5).build(),
+                1000L, List.of(PLAYER_ID, OPPONENT_ID), regions);
+    }
+
+    @Test
+    void from_shouldLoadRegionsIntoCells() {
+        int cell = territory.cellOf(2, 3);
+
+        assertThat(cell).isEqualTo(7);
+        assertThat(territory.rowOf(cell)).isEqualTo(2);
+        assertThat(territory.colOf(cell)).isEqualTo(3);
+        assertThat(territory.getDeposit(cell)).isEqualTo(100);
+        assertThat(territory.getOwner(cell)).isEqualTo(territory.indexOf(PLAYER_ID));
+        assertThat(territory.getOwner(territory.cellOf(1, 1))).isEqualTo(DenseTerritoryImpl.NO_OWNER);
+        assertThat(territory.hasChanges()).isFalse();
+    }
+
+    @Test
+    void indexOf_shouldFollowPlayerOrder() {
+        assertThat(territory.indexOf(PLAYER_ID)).isZero();
+        assertThat(territory.indexOf(OPPONENT_ID)).isEqualTo(1);
+        assertThat(territory.indexOf("unknown")).isEqualTo(DenseTerritoryImpl.NO_OWNER);
+        assertThat(territory.ownerIdOf(1)).isEqualTo(OPPONENT_ID);
+    }
+
+    @Test
+    void updateDeposit_shouldClampBetweenZeroAndMax() {
+        int cell = territory.cellOf(2, 3);
+
+        territory.updateDeposit(cell, 5000);
+        assertThat(territory.getDeposit(cell)).isEqualTo(1000);
+
+        territory.updateDeposit(cell, -5000);
+        assertThat(territory.getDeposit(cell)).isZero();
+    }
+
+    @Test
+    void getRegion_shouldReturnViewBackedByArrays() {
+        Region region = territory.getRegion(4, 4);
+
+        region.updateDeposit(25);
+        region.updateOwner(PLAYER_ID);
+
+        int cell = territory.cellOf(4, 4);
+        assertThat(territory.getDeposit(cell)).isEqualTo(75);
+        assertThat(territory.getOwner(cell)).isEqualTo(territory.indexOf(PLAYER_ID));
+        assertThat(territory.getRegion(0, 1)).isNull();
+    }
+
+    @Test
+    void regionChecks_shouldUseOwnerIndexes() {
+        assertThat(territory.isMyRegion(2, 3, PLAYER_ID)).isTrue();
+        assertThat(territory.isMyRegion(4, 4, PLAYER_ID)).isFalse();
+        assertThat(territory.isWasteland(1, 1)).isTrue();
+        assertThat(territory.isRivalLand(territory.cellOf(4, 4), territory.indexOf(PLAYER_ID))).isTrue();
+        assertThat(territory.isRivalLand(territory.getRegion(2, 3), PLAYER_ID)).isFalse();
+    }
+
+    @Test
+    void clearPlayerOwnership_shouldReleaseOnlyThatPlayersCells() {
+        territory.clearPlayerOwnership("test-game", OPPONENT_ID);
+
+        assertThat(territory.isWasteland(4, 4)).isTrue();
+        assertThat(territory.isMyRegion(2, 3, PLAYER_ID)).isTrue();
+        assertThat(territory.getDeposit(territory.cellOf(4, 4))).isEqualTo(50);
+    }
+
+    @Test
+    void ownedCells_shouldFollowOwnerChanges() {
+        int player = territory.indexOf(PLAYER_ID);
+        int opponent = territory.indexOf(OPPONENT_ID);
+
+        territory.setOwner(territory.cellOf(4, 4), player);
+        territory.setOwner(territory.cellOf(1, 1), player);
+        territory.clearPlayerOwnership(player);
+        territory.setOwner(territory.cellOf(5, 5), opponent);
+
+        assertThat(territory.ownedCount(player)).isZero();
+        assertThat(territory.ownedCells(opponent).stream().boxed().toList())
+                .containsExactly(territory.cellOf(5, 5));
+        assertThat(territory.ownedRegionCounts()).containsEntry(PLAYER_ID, 0L).containsEntry(OPPONENT_ID, 1L);
+    }
+
+    @Test
+    void drainChanges_shouldReturnDetachedCopiesOnce() {
+        territory.updateDeposit(territory.cellOf(1, 2), 10);
+        territory.setOwner(territory.cellOf(1, 2), territory.indexOf(OPPONENT_ID));
+
+        List<Region> changes = territory.drainChanges();
+
+        assertThat(changes).extracting(Region::getRow, Region::getCol, Region::getDeposit, Region::getOwner)
+                .containsExactly(tuple(1, 2, 10L, OPPONENT_ID));
+        assertThat(territory.hasChanges()).isFalse();
+        assertThat(territory.snapshot()).containsOnlyKeys("1:2", "2:3", "4:4");
+    }
+
+    @Test
+    void touchedRegions_shouldKeepCellsChangedAcrossDrains() {
+        territory.updateDeposit(territory.cellOf(1, 2), 10);
+        territory.drainChanges();
+        territory.updateDeposit(territory.cellOf(2, 3), -40);
+
+        Map<String, Region> touched = territory.touchedRegions();
+
+        assertThat(touched).containsOnlyKeys("1:2", "2:3");
+        assertThat(touched.get("2:3").getDeposit()).isEqualTo(60);
+        assertThat(touched.get("2:3").getOwner()).isEqualTo(PLAYER_ID);
+    }
+
+    @Test
+    void snapshot_shouldNotReflectLaterChanges() {
+        Map<String, Region> snapshot = territory.snapshot();
+
+        territory.updateDeposit(territory.cellOf(2, 3), 10);
+
+        assertThat(snapshot.get("2:3").getDeposit()).isEqualTo(100);
+        assertThat(territory.getRegionMap().get("2:3").getDeposit()).isEqualTo(110);
+    }
+
+    @Test
+    void createTerritory_shouldCreateEveryCell() {
+        GameConfigDTO config = GameConfigDTO.builder().rows(2).cols(3).maxDep(1000L).build();
+
+        Map<String, Region> result = territory.createTerritory(config);
+
+        assertThat(result).containsOnlyKeys("1:1", "1:2", "1:3", "2:1", "2:2", "2:3");
+        assertThat(result.get("1:2").getMaxDeposit()).isEqualTo(1000L);
+        assertThat(result.get("1:2").getOwner()).isNull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.upbeat_backend.game.state.territory;
+
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HexGridTest {
+
+    @Test
+    void neighbor_shouldFollowColumnParity() {
+        HexGrid grid = HexGrid.of(5, 5);
+        int oddCol = cell(3, 3, 5);
+        int evenCol = cell(3, 2, 5);
+
+        assertThat(grid.neighbor(oddCol, Keyword.UP)).isEqualTo(cell(2, 3, 5));
+        assertThat(grid.neighbor(oddCol, Keyword.UPRIGHT)).isEqualTo(cell(3, 4, 5));
+        assertThat(grid.neighbor(oddCol, Keyword.DOWNRIGHT)).isEqualTo(cell(4, 4, 5));
+        assertThat(grid.neighbor(oddCol, Keyword.DOWN)).isEqualTo(cell(4, 3, 5));
+        assertThat(grid.neighbor(oddCol, Keyword.DOWNLEFT)).isEqualTo(cell(4, 2, 5));
+        assertThat(grid.neighbor(oddCol, Keyword.UPLEFT)).isEqualTo(cell(3, 2, 5));
+
+        assertThat(grid.neighbor(evenCol, Keyword.UPRIGHT)).isEqualTo(cell(2, 3, 5));
+        assertThat(grid.neighbor(evenCol, Keyword.DOWNRIGHT)).isEqualTo(cell(3, 3, 5));
+        assertThat(grid.neighbor(evenCol, Keyword.DOWNLEFT)).isEqualTo(cell(3, 1, 5));
+        assertThat(grid.neighbor(evenCol, Keyword.UPLEFT)).isEqualTo(cell(2, 1, 5));
+    }
+
+    @Test
+    void neighbor_shouldBeOffMapPastEdges() {
+        HexGrid grid = HexGrid.of(3, 4);
+
+        assertThat(grid.neighbor(cell(1, 1, 4), Keyword.UP)).isEqualTo(HexGrid.OFF_MAP);
+        assertThat(grid.neighbor(cell(1, 2, 4), Keyword.UPLEFT)).isEqualTo(HexGrid.OFF_MAP);
+        assertThat(grid.neighbor(cell(3, 3, 4), Keyword.DOWNRIGHT)).isEqualTo(HexGrid.OFF_MAP);
+        assertThat(grid.neighbor(cell(2, 4, 4), Keyword.UPRIGHT)).isEqualTo(HexGrid.OFF_MAP);
+        assertThat(grid.neighbor(HexGrid.OFF_MAP, Keyword.DOWN)).isEqualTo(HexGrid.OFF_MAP);
+    }
+
+    @Test
+    void ray_shouldWalkToTheEdge() {
+        HexGrid grid = HexGrid.of(6, 6);
+        int d = HexGrid.directionIndex(Keyword.DOWN);
+
+        int hops = 0;
+        for (int cell = grid.neighbor(cell(2, 4, 6), d); cell != HexGrid.OFF_MAP; cell = grid.neighbor(cell, d)) {
+            hops++;
+        }
+
+        assertThat(hops).isEqualTo(4);
+    }
+
+    @Test
+    void directionIndex_shouldMatchKeywordDirectionsOrder() {
+        List<Keyword> directions = Keyword.directions();
+        for (int i = 0; i < directions.size(); i++) {
+            assertThat(HexGrid.directionIndex(directions.get(i))).isEqualTo(i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> HexGrid.directionIndex(Keyword.MOVE));
+    }
+
+    @Test
+    void of_shouldShareTablesPerMapSize() {
+        assertThat(HexGrid.of(7, 9)).isSameAs(HexGrid.of(7, 9));
+        assertThat(HexGrid.of(7, 9)).isNotSameAs(HexGrid.of(9, 7));
+    }
+
+    @Test
+    void of_shouldKeepABoundedNumberOfMapSizes() {
+        for (int rows = 1; rows <= HexGrid.MAX_CACHED_GRIDS * 2; rows++) {
+            HexGrid.of(rows, 3);
+        }
+
+        assertThat(HexGrid.cachedGrids()).isEqualTo(HexGrid.MAX_CACHED_GRIDS);
+        assertThat(HexGrid.of(HexGrid.MAX_CACHED_GRIDS * 2, 3)).isSameAs(HexGrid.of(HexGrid.MAX_CACHED_GRIDS * 2, 3));
+    }
+
+    private static int cell(int row, int col, int cols) {
+        return (row - 1) * cols + (col - 1);
+    }
+}
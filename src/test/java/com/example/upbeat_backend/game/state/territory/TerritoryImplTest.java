@@ -176,39 +176,10 @@ class TerritoryImplTest {
     }
 
     @Test
-    void clearPlayerOwnership_shouldUpdateRegionsAndRepository() {
-        String playerId = "player1";
-        Map<String, Region> regions = new HashMap<>();
-
-        Region playerRegion1 = mock(Region.class);
-        when(playerRegion1.getOwner()).thenReturn(playerId);
-        when(playerRegion1.getRow()).thenReturn(1);
-        when(playerRegion1.getCol()).thenReturn(1);
-        when(playerRegion1.getDeposit()).thenReturn(500L);
-
-        Region playerRegion2 = mock(Region.class);
-        when(playerRegion2.getOwner()).thenReturn(playerId);
-        when(playerRegion2.getRow()).thenReturn(2);
-        when(playerRegion2.getCol()).thenReturn(2);
-        when(playerRegion2.getDeposit()).thenReturn(300L);
-
-        Region otherRegion = mock(Region.class);
-        when(otherRegion.getOwner()).thenReturn("player2");
-
-        regions.put("1:1", playerRegion1);
-        regions.put("2:2", playerRegion2);
-        regions.put("3:3", otherRegion);
-
-        when(repository.getAllRegions(GAME_ID)).thenReturn(regions);
-
-        territory.clearPlayerOwnership(GAME_ID, playerId);
-
-        verify(playerRegion1).updateOwner(null);
-        verify(playerRegion2).updateOwner(null);
-        verify(otherRegion, never()).updateOwner(any());
+    void clearPlayerOwnership_shouldUseOwnershipIndex() {
+        territory.clearPlayerOwnership(GAME_ID, "player1");
 
-        verify(repository).updateRegion(GAME_ID, 1, 1, 500L, null);
-        verify(repository).updateRegion(GAME_ID, 2, 2, 300L, null);
-        verify(repository, never()).updateRegion(eq(GAME_ID), eq(3), eq(3), anyLong(), any());
+        verify(repository).clearPlayerOwnership(GAME_ID, "player1");
+        verify(repository, never()).getAllRegions(anyString());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,200 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.state.player.PlayerImpl;
+import com.example.upbeat_backend.game.state.region.Region;
+import com.example.upbeat_backend.game.state.region.RegionImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameWriteBatchTest {
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisOperations<String, Object> operations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private ListOperations<String, Object> listOperations;
+
+    @Captor
+    private ArgumentCaptor<SessionCallback<Object>> callbackCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<Object, Object>> mapCaptor;
+
+    private GameWriteBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+        lenient().when(listOperations.range("game:test-game:players", 0, -1))
+                .thenReturn(List.of("player1", "player2"));
+        batch = new RedisGameStateRepository(redisTemplate).newWriteBatch("test-game");
+    }
+
+    private void runCommittedCallback() {
+        verify(redisTemplate).executePipelined(callbackCaptor.capture());
+        when(operations.opsForHash()).thenReturn(hashOperations);
+        lenient().when(operations.opsForSet()).thenReturn(setOperations);
+        callbackCaptor.getValue().execute(operations);
+    }
+
+    @Test
+    void commit_shouldSendAllWritesInOneTransaction() {
+        Region region = new RegionImpl(1000L, 2, 3);
+        region.updateDeposit(50);
+        region.updateOwner("player1");
+
+        batch.updateRegions(List.of(region));
+        batch.savePlayer(new PlayerImpl("player1", "Player 1", 500L, 2, 3));
+        batch.incrementTurn();
+        batch.updateCurrentPlayer(new PlayerImpl("player2", "Player 2", 400L, 7, 8));
+        batch.commit();
+
+        runCommittedCallback();
+
+        InOrder inOrder = inOrder(operations, hashOperations);
+        inOrder.verify(operations).multi();
+        inOrder.verify(hashOperations).putAll(eq("game:test-game:territory:regions"), anyMap());
+        inOrder.verify(hashOperations).putAll(eq("game:test-game:player:player1"), anyMap());
+        inOrder.verify(hashOperations).putAll(eq("game:test-game:info"), anyMap());
+        inOrder.verify(hashOperations).putAll(eq("game:test-game:currentState"), anyMap());
+        inOrder.verify(hashOperations).increment("game:test-game:info", "currentTurn", 1L);
+        inOrder.verify(operations).exec();
+    }
+
+    @Test
+    void commit_shouldMoveRegionBetweenOwnershipSets() {
+        Region region = new RegionImpl(1000L, 2, 3);
+        region.updateOwner("player1");
+        batch.updateRegions(List.of(region));
+        region.updateOwner("player2");
+        batch.updateRegions(List.of(region));
+        batch.commit();
+
+        runCommittedCallback();
+
+        InOrder inOrder = inOrder(operations, setOperations);
+        inOrder.verify(operations).multi();
+        inOrder.verify(setOperations).add("game:test-game:player:player2:regions", "2:3");
+        inOrder.verify(setOperations).remove("game:test-game:player:player1:regions", "2:3");
+        inOrder.verify(operations).exec();
+        verify(setOperations, never()).add(eq("game:test-game:player:player1:regions"), any());
+    }
+
+    @Test
+    void commit_shouldCoalesceWritesToSameField() {
+        batch.updateCurrentPosition(3, 4);
+        batch.updateCurrentPosition(5, 6);
+        batch.commit();
+
+        runCommittedCallback();
+
+        verify(hashOperations).putAll(eq("game:test-game:currentState"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsOnly(entry("currentRow", 5), entry("currentCol", 6));
+    }
+
+    @Test
+    void commit_shouldMergeTurnIncrements() {
+        batch.incrementTurn();
+        batch.incrementTurn();
+        batch.updateGameStatus(GameStatus.IN_PROGRESS);
+        batch.commit();
+
+        runCommittedCallback();
+
+        verify(hashOperations).increment("game:test-game:info", "currentTurn", 2L);
+        verify(hashOperations).putAll(eq("game:test-game:info"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsEntry("status", "IN_PROGRESS").containsKey("lastUpdatedAt");
+    }
+
+    @Test
+    void commit_shouldIncrementSequenceAndFinishGameWithTurnWrites() {
+        batch.savePlayer(new PlayerImpl("player1", "Player 1", 500L, 2, 3));
+        batch.setGameWinner("player1");
+        batch.incrementSequence();
+        batch.commit();
+
+        runCommittedCallback();
+
+        InOrder inOrder = inOrder(operations, hashOperations);
+        inOrder.verify(operations).multi();
+        inOrder.verify(hashOperations).putAll(eq("game:test-game:info"), mapCaptor.capture());
+        inOrder.verify(hashOperations).increment("game:test-game:info", "sequence", 1L);
+        inOrder.verify(operations).exec();
+        assertThat(mapCaptor.getValue()).containsEntry("winner", "player1").containsEntry("status", "FINISHED");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void commit_shouldAppendJournalRecordAndPlanInTheTurnTransaction() {
+        MapRecord<String, String, Object> record = StreamRecords.newRecord()
+                .in("game:test-game:journal")
+                .withId(RecordId.of(7, 1))
+                .ofMap(Map.<String, Object>of("type", "TURN"));
+        batch.incrementSequence();
+        batch.putIfAbsent("game:test-game:journal:plans", "hash", "done");
+        batch.putIfAbsent("game:test-game:journal:plans", "hash", "ignored");
+        batch.addRecord(record);
+        batch.commit();
+
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(operations.opsForStream()).thenReturn(streamOperations);
+        runCommittedCallback();
+
+        InOrder inOrder = inOrder(operations, hashOperations, streamOperations);
+        inOrder.verify(operations).multi();
+        inOrder.verify(hashOperations).increment("game:test-game:info", "sequence", 1L);
+        inOrder.verify(hashOperations).putIfAbsent("game:test-game:journal:plans", "hash", "done");
+        inOrder.verify(streamOperations).add(record);
+        inOrder.verify(operations).exec();
+        verify(hashOperations, never()).putIfAbsent(any(), any(), eq("ignored"));
+    }
+
+    @Test
+    void commit_shouldSkipRedis_whenBatchIsEmpty() {
+        assertThat(batch.isEmpty()).isTrue();
+
+        batch.commit();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void commit_shouldClearBatch() {
+        batch.updateCurrentPosition(1, 1);
+
+        batch.commit();
+
+        assertThat(batch.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.exception.state.GameException;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveListOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRedisGameStateRepositoryTest {
+    @Mock
+    private ReactiveRedisTemplate<String, Object> template;
+
+    @Mock
+    private ReactiveHashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ReactiveListOperations<String, Object> listOperations;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private RedisGameStateRepository blockingRepository;
+    private ReactiveRedisGameStateRepository repository;
+
+    private final String gameId = "test-game";
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(hashOperations).when(template).opsForHash();
+        lenient().doReturn(listOperations).when(template).opsForList();
+        lenient().when(hashOperations.entries(anyString())).thenReturn(Flux.empty());
+        lenient().when(listOperations.range("game:test-game:players", 0, -1)).thenReturn(Flux.just("p1", "p2"));
+        lenient().when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(Flux.empty());
+        blockingRepository = new RedisGameStateRepository(redisTemplate);
+        repository = new ReactiveRedisGameStateRepository(template, blockingRepository);
+    }
+
+    @Test
+    void loadSnapshot_shouldCombineAllTurnReads() {
+        stubGame();
+        stubHash("game:test-game:currentState", Map.of("currentPlayerId", "p2", "currentRow", 3, "currentCol", 4));
+
+        GameSnapshot snapshot = repository.loadSnapshot(gameId).block();
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.info().getGameStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+        assertThat(snapshot.config().getMaxDep()).isEqualTo(1000L);
+        assertThat(snapshot.size().getRows()).isEqualTo(5);
+        assertThat(snapshot.players()).extracting("id").containsExactly("p1", "p2");
+        assertThat(snapshot.regions()).containsOnlyKeys("1:1", "3:4");
+        assertThat(snapshot.regions().get("1:1").getOwner()).isEqualTo("p1");
+        assertThat(snapshot.regions().get("3:4").getOwner()).isEqualTo("p2");
+        assertThat(snapshot.regions().get("3:4").getDeposit()).isEqualTo(40L);
+        assertThat(snapshot.currentState().getCurrentPlayerId()).isEqualTo("p2");
+    }
+
+    @Test
+    void loadSnapshot_shouldFailWhenGameIsMissing() {
+        assertThatThrownBy(() -> repository.loadSnapshot(gameId).block())
+                .isInstanceOf(GameException.GameNotFound.class);
+    }
+
+    @Test
+    void loadSnapshot_shouldFailWithoutCurrentState() {
+        stubGame();
+
+        assertThatThrownBy(() -> repository.loadSnapshot(gameId).block())
+                .isInstanceOf(GameException.InvalidGameState.class);
+    }
+
+    @Test
+    void getPlayer_shouldCompleteEmptyForMissingHash() {
+        assertThat(repository.getPlayer(gameId, "ghost").blockOptional()).isEmpty();
+    }
+
+    @Test
+    void loadSnapshot_shouldReadConfigAndSizeThroughTheNearCache() {
+        stubGame();
+        stubHash("game:test-game:currentState", Map.of("currentPlayerId", "p2", "currentRow", 3, "currentCol", 4));
+
+        repository.loadSnapshot(gameId).block();
+        GameSnapshot snapshot = repository.loadSnapshot(gameId).block();
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.config().getMaxDep()).isEqualTo(1000L);
+        assertThat(snapshot.size().getCols()).isEqualTo(5);
+        verify(hashOperations, times(1)).entries("game:test-game:config");
+        verify(hashOperations, times(1)).entries("game:test-game:territory:size");
+        assertThat(blockingRepository.getGameConfig(gameId).getMaxDep()).isEqualTo(1000L);
+    }
+
+    private void stubGame() {
+        stubHash("game:test-game:info", Map.of("status", "IN_PROGRESS", "createdAt", 1L, "maxPlayers", 2,
+                "currentTurn", 1, "lastUpdatedAt", 1L));
+        Map<Object, Object> config = new HashMap<>();
+        for (String field : List.of("rows", "cols")) config.put(field, 5);
+        for (String field : List.of("initPlanMin", "initPlanSec", "planRevMin", "planRevSec", "interestPct")) config.put(field, 1);
+        for (String field : List.of("initBudget", "initCenterDep", "revCost")) config.put(field, 100L);
+        config.put("maxDep", 1000L);
+        stubHash("game:test-game:config", config);
+        stubHash("game:test-game:territory:size", Map.of("rows", 5, "cols", 5));
+        for (String id : List.of("p1", "p2")) {
+            stubHash("game:test-game:player:" + id, Map.of("id", id, "name", id, "budget", 100L,
+                    "cityCenterRow", 1, "cityCenterCol", 1));
+        }
+        stubHash("game:test-game:territory:regions", Map.of(
+                "1:1", Map.of("deposit", 100L, "owner", "p1"),
+                "3:4", (40L << 8) | 2));
+    }
+
+    private void stubHash(String key, Map<?, ?> data) {
+        Flux<Map.Entry<Object, Object>> entries = Flux.fromIterable(data.entrySet()).map(entry -> Map.entry(entry.getKey(), entry.getValue()));
+        when(hashOperations.entries(key)).thenReturn(entries);
+    }
+}
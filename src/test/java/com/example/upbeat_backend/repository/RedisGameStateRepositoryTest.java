@@ -4,6 +4,7 @@ import com.example.upbeat_backend.game.dto.reids.CurrentStateDTO;
 import com.example.upbeat_backend.game.dto.reids.GameConfigDTO;
 import com.example.upbeat_backend.game.dto.reids.GameInfoDTO;
 import com.example.upbeat_backend.game.dto.reids.TerritorySizeDTO;
+import com.example.upbeat_backend.game.dto.response.game.TerritorySnapshotDTO;
 import com.example.upbeat_backend.game.model.enums.GameStatus;
 import com.example.upbeat_backend.game.state.player.Player;
 import com.example.upbeat_backend.game.state.player.PlayerImpl;
@@ -16,11 +17,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -92,6 +97,23 @@ class RedisGameStateRepositoryTest {
         assertThat(capturedMap.get("maxPlayers")).isEqualTo(maxPlayers);
         assertThat(capturedMap.get("currentTurn")).isEqualTo(1);
         assertThat(capturedMap).containsKey("lastUpdatedAt");
+        assertThat(capturedMap.get("seed")).isInstanceOf(Long.class);
+        assertThat(capturedMap.get("randomPosition")).isEqualTo(0L);
+    }
+
+    @Test
+    void initializeGameInfo_shouldStoreGivenSeed() {
+        repository.initializeGameInfo(gameId, 2, 1234L);
+
+        verify(hashOperations).putAll(eq("game:test-game:info"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsEntry("seed", 1234L);
+    }
+
+    @Test
+    void nextRandomPosition_shouldClaimPositionBeforeIncrement() {
+        when(hashOperations.increment("game:test-game:info", "randomPosition", 1)).thenReturn(8L);
+
+        assertThat(repository.nextRandomPosition(gameId)).isEqualTo(7L);
     }
 
     @Test
@@ -100,8 +122,11 @@ class RedisGameStateRepositoryTest {
 
         repository.updateGameStatus(gameId, newStatus);
 
-        verify(hashOperations).put("game:test-game:info", "status", newStatus.name());
-        verify(hashOperations).put(eq("game:test-game:info"), eq("lastUpdatedAt"), anyLong());
+        verify(hashOperations).putAll(eq("game:test-game:info"), mapCaptor.capture());
+        verify(hashOperations, never()).put(any(), any(), any());
+        assertThat(mapCaptor.getValue())
+                .containsEntry("status", newStatus.name())
+                .containsKey("lastUpdatedAt");
     }
 
     @Test
@@ -150,35 +175,17 @@ class RedisGameStateRepositoryTest {
     void getPlayersWithCityCenters_shouldReturnPlayersWithCenters() {
         List<Object> playersList = Arrays.asList("player1", "player2", "player3");
 
-        Map<Object, Object> player1Data = new HashMap<>();
-        player1Data.put("id", "player1");
-        player1Data.put("name", "Player 1");
-        player1Data.put("budget", 1000L);
-        player1Data.put("cityCenterRow", 5);
-        player1Data.put("cityCenterCol", 5);
-
-        Map<Object, Object> player2Data = new HashMap<>();
-        player2Data.put("id", "player2");
-        player2Data.put("name", "Player 2");
-        player2Data.put("budget", 1000L);
-        player2Data.put("cityCenterRow", -1); // No city center
-        player2Data.put("cityCenterCol", -1);
-
-        Map<Object, Object> player3Data = new HashMap<>();
-        player3Data.put("id", "player3");
-        player3Data.put("name", "Player 3");
-        player3Data.put("budget", 1000L);
-        player3Data.put("cityCenterRow", 7);
-        player3Data.put("cityCenterCol", 7);
-
         when(listOperations.range("game:test-game:players", 0, -1)).thenReturn(playersList);
-        when(hashOperations.entries("game:test-game:player:player1")).thenReturn(player1Data);
-        when(hashOperations.entries("game:test-game:player:player2")).thenReturn(player2Data);
-        when(hashOperations.entries("game:test-game:player:player3")).thenReturn(player3Data);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                List.of(5, 5),
+                List.of(-1, -1), // No city center
+                List.of(7, 7)
+        ));
 
         List<String> result = repository.getPlayersWithCityCenters(gameId);
 
         assertThat(result).containsExactly("player1", "player3");
+        verify(hashOperations, never()).entries(anyString());
     }
 
     @Test
@@ -187,9 +194,11 @@ class RedisGameStateRepositoryTest {
 
         repository.setGameWinner(gameId, playerId);
 
-        verify(hashOperations).put("game:test-game:info", "winner", playerId);
-        verify(hashOperations).put("game:test-game:info", "status", GameStatus.FINISHED.name());
-        verify(hashOperations).put(eq("game:test-game:info"), eq("lastUpdatedAt"), anyLong());
+        verify(hashOperations).putAll(eq("game:test-game:info"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue())
+                .containsEntry("winner", playerId)
+                .containsEntry("status", GameStatus.FINISHED.name())
+                .containsKey("lastUpdatedAt");
     }
 
     // --- GAME CONFIG TESTS ---
@@ -288,15 +297,75 @@ class RedisGameStateRepositoryTest {
         assertThat(result.getInterestPct()).isEqualTo(5);
     }
 
+    @Test
+    void getGameConfig_shouldReadRedisOnce_andReturnCopies() {
+        when(hashOperations.entries("game:test-game:config")).thenReturn(getObjectObjectMap());
+
+        GameConfigDTO first = repository.getGameConfig(gameId);
+        first.setMaxDep(1);
+        GameConfigDTO second = repository.getGameConfig(gameId);
+
+        assertThat(second.getMaxDep()).isEqualTo(9999);
+        verify(hashOperations, times(1)).entries("game:test-game:config");
+    }
+
+    @Test
+    void saveGameConfig_shouldServeLaterReadsFromCache() {
+        GameConfigDTO config = GameConfigDTO.builder().rows(8).cols(9).maxDep(500L).build();
+
+        repository.saveGameConfig(gameId, config);
+
+        assertThat(repository.getGameConfig(gameId)).isEqualTo(config);
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    void deleteGameData_shouldEvictCachedConfigAndSize() {
+        repository.saveGameConfig(gameId, GameConfigDTO.builder().rows(8).cols(9).build());
+        repository.saveTerritorySize(gameId, 8, 9);
+
+        repository.deleteGameData(gameId);
+
+        assertThat(repository.getGameConfig(gameId)).isNull();
+        assertThat(repository.getTerritorySize(gameId)).isNull();
+        verify(hashOperations).entries("game:test-game:config");
+        verify(hashOperations).entries("game:test-game:territory:size");
+    }
+
+    @Test
+    void evictCachedGame_shouldReloadConfigAndSizeFromRedis() {
+        repository.saveGameConfig(gameId, GameConfigDTO.builder().rows(8).cols(9).build());
+        repository.saveTerritorySize(gameId, 8, 9);
+
+        repository.evictCachedGame(gameId);
+        repository.getGameConfig(gameId);
+        repository.getTerritorySize(gameId);
+
+        verify(hashOperations).entries("game:test-game:config");
+        verify(hashOperations).entries("game:test-game:territory:size");
+    }
+
     // --- PLAYERS TESTS ---
 
     @Test
     void addPlayerToGame_shouldAddPlayerToList() {
         String playerId = "player123";
+        when(listOperations.indexOf("game:test-game:owners", playerId)).thenReturn(null);
 
         repository.addPlayerToGame(gameId, playerId);
 
         verify(listOperations).rightPush("game:test-game:players", playerId);
+        verify(listOperations).rightPush("game:test-game:owners", playerId);
+    }
+
+    @Test
+    void addPlayerToGame_shouldKeepExistingOwnerSlot_whenPlayerRejoins() {
+        when(listOperations.indexOf("game:test-game:owners", "player1")).thenReturn(0L);
+
+        repository.addPlayerToGame(gameId, "player1");
+
+        verify(listOperations).rightPush("game:test-game:players", "player1");
+        verify(listOperations, never()).rightPush("game:test-game:owners", "player1");
     }
 
     @Test
@@ -488,6 +557,22 @@ class RedisGameStateRepositoryTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void setPlayerVariables_shouldWriteAllVariablesInOneCall() {
+        Map<String, Long> variables = Map.of("x", 1L, "y", 2L);
+
+        repository.setPlayerVariables(gameId, "player1", variables);
+
+        verify(hashOperations).putAll("game:test-game:player:player1:vars", variables);
+    }
+
+    @Test
+    void setPlayerVariables_shouldSkipRedis_whenNothingChanged() {
+        repository.setPlayerVariables(gameId, "player1", Map.of());
+
+        verifyNoInteractions(hashOperations);
+    }
+
     @Test
     void getAllPlayerVariables_shouldReturnAllVariables() {
         String playerId = "player123";
@@ -547,6 +632,21 @@ class RedisGameStateRepositoryTest {
         assertThat(result.getCols()).isEqualTo(20);
     }
 
+    @Test
+    void getTerritorySize_shouldReadRedisOnce() {
+        Map<Object, Object> data = new HashMap<>();
+        data.put("rows", 12);
+        data.put("cols", 15);
+        when(hashOperations.entries("game:test-game:territory:size")).thenReturn(data);
+
+        repository.getTerritorySize(gameId);
+        TerritorySizeDTO result = repository.getTerritorySize(gameId);
+
+        assertThat(result.getRows()).isEqualTo(12);
+        assertThat(result.getCols()).isEqualTo(15);
+        verify(hashOperations, times(1)).entries("game:test-game:territory:size");
+    }
+
     @Test
     void getTerritorySize_shouldReturnNull_whenNoData() {
         when(hashOperations.entries("game:test-game:territory:size")).thenReturn(Collections.emptyMap());
@@ -589,6 +689,32 @@ class RedisGameStateRepositoryTest {
         assertThat(capturedData.get("owner")).isEqualTo("player2");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateRegions_shouldWriteAllRegionsInOneCall() {
+        Region region1 = new RegionImpl(1000, 1, 2);
+        region1.updateDeposit(100);
+        region1.updateOwner("player1");
+        Region region2 = new RegionImpl(1000, 3, 4);
+
+        repository.updateRegions(gameId, List.of(region1, region2));
+
+        ArgumentCaptor<Map<String, Object>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq("game:test-game:territory:regions"), fieldsCaptor.capture());
+        Map<String, Object> fields = fieldsCaptor.getValue();
+
+        assertThat(fields).containsOnlyKeys("1:2", "3:4");
+        assertThat((Map<String, Object>) fields.get("1:2")).containsEntry("deposit", 100L).containsEntry("owner", "player1");
+        assertThat((Map<String, Object>) fields.get("3:4")).containsEntry("deposit", 0L).containsEntry("owner", null);
+    }
+
+    @Test
+    void updateRegions_shouldSkipRedis_whenNothingChanged() {
+        repository.updateRegions(gameId, List.of());
+
+        verifyNoInteractions(hashOperations);
+    }
+
     @Test
     void getRegion_shouldReturnExistingRegion() {
         Map<String, Object> regionData = new HashMap<>();
@@ -626,6 +752,95 @@ class RedisGameStateRepositoryTest {
         assertThat(result.getOwner()).isNull();
     }
 
+    @Test
+    void updateRegion_shouldWritePackedValue_whenPackedFormatIsSelected() {
+        repository.setRegionFormat("packed");
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1", "player2"));
+
+        repository.updateRegion(gameId, 3, 4, 250, "player2");
+
+        verify(hashOperations).put("game:test-game:territory:regions", "3:4", 250L * 256 + 2);
+    }
+
+    @Test
+    void getAllRegions_shouldDecodePackedOwnersFromOwnerTable_afterPlayerRemoval() {
+        Map<Object, Object> allRegionsData = new HashMap<>();
+        allRegionsData.put("1:1", 10 * 256 + 1);
+        allRegionsData.put("3:4", 20 * 256 + 3);
+
+        when(hashOperations.entries("game:test-game:territory:regions")).thenReturn(allRegionsData);
+        when(hashOperations.entries("game:test-game:config")).thenReturn(getObjectObjectMap());
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1", "player2", "player3"));
+
+        Map<String, Region> result = repository.getAllRegions(gameId);
+
+        assertThat(result.get("1:1").getOwner()).isEqualTo("player1");
+        assertThat(result.get("3:4").getOwner()).isEqualTo("player3");
+        verify(listOperations, never()).range("game:test-game:players", 0, -1);
+    }
+
+    @Test
+    void getAllRegions_shouldReadPackedAndLegacyRegionsTogether() {
+        Map<String, Object> legacyData = new HashMap<>();
+        legacyData.put("deposit", 100L);
+        legacyData.put("owner", "player1");
+
+        Map<Object, Object> allRegionsData = new HashMap<>();
+        allRegionsData.put("1:2", legacyData);
+        allRegionsData.put("3:4", 200 * 256 + 2);
+
+        when(hashOperations.entries("game:test-game:territory:regions")).thenReturn(allRegionsData);
+        when(hashOperations.entries("game:test-game:config")).thenReturn(getObjectObjectMap());
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1", "player2"));
+
+        Map<String, Region> result = repository.getAllRegions(gameId);
+
+        assertThat(result.get("1:2").getDeposit()).isEqualTo(100L);
+        assertThat(result.get("1:2").getOwner()).isEqualTo("player1");
+        assertThat(result.get("3:4").getDeposit()).isEqualTo(200L);
+        assertThat(result.get("3:4").getOwner()).isEqualTo("player2");
+        verify(listOperations, times(1)).range("game:test-game:owners", 0, -1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getTerritorySnapshot_shouldReadSequenceAndRegionsInOneTransaction() {
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> transactionHash = mock(HashOperations.class);
+        when(operations.opsForHash()).thenReturn(transactionHash);
+        when(operations.exec()).thenReturn(List.of(4L, Map.of("3:4", 200 * 256 + 1)));
+        when(redisTemplate.execute(any(SessionCallback.class))).thenAnswer(invocation ->
+                ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations));
+        when(hashOperations.entries("game:test-game:config")).thenReturn(getObjectObjectMap());
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1"));
+
+        TerritorySnapshotDTO snapshot = repository.getTerritorySnapshot(gameId);
+
+        assertThat(snapshot.getSequence()).isEqualTo(4L);
+        assertThat(snapshot.getRegions().get("3:4").getDeposit()).isEqualTo(200L);
+        assertThat(snapshot.getRegions().get("3:4").getOwner()).isEqualTo("player1");
+        InOrder inOrder = inOrder(operations, transactionHash);
+        inOrder.verify(operations).multi();
+        inOrder.verify(transactionHash).get("game:test-game:info", "sequence");
+        inOrder.verify(transactionHash).entries("game:test-game:territory:regions");
+        inOrder.verify(operations).exec();
+    }
+
+    @Test
+    void getRegions_shouldReadOnlyTheRequestedCells() {
+        when(hashOperations.multiGet("game:test-game:territory:regions", List.of("1:1", "2:2")))
+                .thenReturn(Arrays.asList(10 * 256 + 1, null));
+        when(hashOperations.entries("game:test-game:config")).thenReturn(getObjectObjectMap());
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1"));
+
+        Map<String, Region> result = repository.getRegions(gameId, List.of("1:1", "2:2"));
+
+        assertThat(result).containsOnlyKeys("1:1");
+        assertThat(result.get("1:1").getDeposit()).isEqualTo(10L);
+        assertThat(result.get("1:1").getOwner()).isEqualTo("player1");
+        verify(hashOperations, never()).entries("game:test-game:territory:regions");
+    }
+
     @Test
     void getAllRegions_shouldReturnAllRegionsMap() {
         Map<String, Object> region1Data = new HashMap<>();
@@ -689,8 +904,8 @@ class RedisGameStateRepositoryTest {
 
         repository.updateCurrentPosition(gameId, newRow, newCol);
 
-        verify(hashOperations).put("game:test-game:currentState", "currentRow", 8);
-        verify(hashOperations).put("game:test-game:currentState", "currentCol", 9);
+        verify(hashOperations).putAll(eq("game:test-game:currentState"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsOnly(entry("currentRow", 8), entry("currentCol", 9));
     }
 
     @Test
@@ -708,9 +923,9 @@ class RedisGameStateRepositoryTest {
 
         repository.updateCurrentPlayer(gameId, playerId);
 
-        verify(hashOperations).put("game:test-game:currentState", "currentPlayerId", "player2");
-        verify(hashOperations).put("game:test-game:currentState", "currentRow", 3);
-        verify(hashOperations).put("game:test-game:currentState", "currentCol", 4);
+        verify(hashOperations).putAll(eq("game:test-game:currentState"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsOnly(
+                entry("currentPlayerId", "player2"), entry("currentRow", 3), entry("currentCol", 4));
     }
 
     @Test
@@ -739,12 +954,86 @@ class RedisGameStateRepositoryTest {
         assertThat(result).isNull();
     }
 
+    // --- OWNERSHIP INDEX TESTS ---
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateRegion_shouldMoveCellToOwnersIndex() {
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForSet()).thenReturn(setOperations);
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1", "player2"));
+
+        repository.updateRegion(gameId, 2, 3, 50L, "player2");
+
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().execute(operations);
+        verify(setOperations).add("game:test-game:player:player2:regions", "2:3");
+        verify(setOperations).remove("game:test-game:player:player1:regions", "2:3");
+    }
+
+    @Test
+    void clearPlayerOwnership_shouldOnlyTouchIndexedRegions() {
+        when(setOperations.members("game:test-game:player:player1:regions")).thenReturn(Set.of("1:1"));
+        when(hashOperations.multiGet("game:test-game:territory:regions", List.of("1:1")))
+                .thenReturn(List.of(Map.of("deposit", 500L, "owner", "player1")));
+
+        repository.clearPlayerOwnership(gameId, "player1");
+
+        verify(hashOperations).putAll(eq("game:test-game:territory:regions"), mapCaptor.capture());
+        assertThat(mapCaptor.getValue()).containsOnlyKeys("1:1");
+        assertThat((Map<String, Object>) mapCaptor.getValue().get("1:1"))
+                .containsEntry("deposit", 500L)
+                .containsEntry("owner", null);
+        verify(redisTemplate).delete("game:test-game:player:player1:regions");
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    void clearPlayerOwnership_shouldSkipRedisWrites_whenPlayerOwnsNothing() {
+        repository.clearPlayerOwnership(gameId, "player1");
+
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void getOwnedRegionCounts_shouldReadEverySetInOnePipeline() {
+        when(listOperations.range("game:test-game:players", 0, -1)).thenReturn(List.of("player1", "player2"));
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(4L, 0L));
+
+        Map<String, Long> counts = repository.getOwnedRegionCounts(gameId);
+
+        assertThat(counts).containsExactly(entry("player1", 4L), entry("player2", 0L));
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    // --- FINISHED GAME RETENTION TESTS ---
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void expireGameData_shouldExpireEveryGameKeyInOnePipeline() {
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1"));
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+
+        repository.expireGameData(gameId, Duration.ofHours(24));
+
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().execute(operations);
+        for (String key : List.of("game:test-game:info", "game:test-game:territory:regions", "game:test-game:journal",
+                "game:test-game:journal:plans", "game:test-game:owners", "game:test-game:player:player1",
+                "game:test-game:player:player1:vars", "game:test-game:player:player1:regions")) {
+            verify(operations).expire(key, Duration.ofHours(24));
+        }
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
     // --- DELETE GAME DATA TESTS ---
 
     @Test
     void deleteGameData_shouldDeleteAllGameKeys() {
-        when(redisTemplate.opsForSet().members("game:test-game:players"))
-                .thenReturn(Set.of("player1", "player2"));
+        when(listOperations.range("game:test-game:owners", 0, -1)).thenReturn(List.of("player1", "player2"));
 
         repository.deleteGameData(gameId);
 
@@ -753,26 +1042,22 @@ class RedisGameStateRepositoryTest {
                 keys.contains("game:test-game:players") &&
                 keys.contains("game:test-game:territory:size") &&
                 keys.contains("game:test-game:territory:regions") &&
-                keys.contains("game:test-game:currentState")
-        ));
-
-        verify(redisTemplate).delete(argThat((List<String> keys) ->
+                keys.contains("game:test-game:currentState") &&
                 keys.contains("game:test-game:player:player1") &&
                 keys.contains("game:test-game:player:player1:plan") &&
-                keys.contains("game:test-game:player:player1:vars")
-        ));
-
-        verify(redisTemplate).delete(argThat((List<String> keys) ->
+                keys.contains("game:test-game:player:player1:vars") &&
+                keys.contains("game:test-game:player:player1:regions") &&
                 keys.contains("game:test-game:player:player2") &&
                 keys.contains("game:test-game:player:player2:plan") &&
-                keys.contains("game:test-game:player:player2:vars")
+                keys.contains("game:test-game:player:player2:vars") &&
+                keys.contains("game:test-game:player:player2:regions")
         ));
+        verify(redisTemplate, times(1)).delete(any(List.class));
+        verify(setOperations, never()).members(any());
     }
 
     @Test
     void deleteGameData_shouldHandleEmptyPlayerSet() {
-        when(redisTemplate.opsForSet().members("game:test-game:players")).thenReturn(null);
-
         repository.deleteGameData(gameId);
 
         verify(redisTemplate).delete(argThat((List<String> keys) ->
@@ -780,9 +1065,49 @@ class RedisGameStateRepositoryTest {
                 keys.contains("game:test-game:players") &&
                 keys.contains("game:test-game:territory:size") &&
                 keys.contains("game:test-game:territory:regions") &&
-                keys.contains("game:test-game:currentState")
+                keys.contains("game:test-game:currentState") &&
+                keys.stream().noneMatch(key -> key.startsWith("game:test-game:player:"))
         ));
 
         verify(redisTemplate, times(1)).delete(any(List.class));
     }
-}
\ No newline at end of file
+
+    // --- COMMAND SCRIPT TESTS ---
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runScript_shouldPassGameKeysAndStringArguments() {
+        repository.setRegionFormat("packed");
+        when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList(), any(Object[].class))).thenReturn(List.of(55L, "3:4", "2:2"));
+
+        GameScript.Result result = repository.runScript(gameId, GameScript.SHOOT, "UP", 50L);
+
+        assertThat(result.value()).isEqualTo(55L);
+        assertThat(result.changedCells()).containsExactly("3:4", "2:2");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(eq(GameScript.SHOOT.getScript()), any(RedisSerializer.class),
+                any(RedisSerializer.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly("game:test-game:currentState",
+                "game:test-game:territory:regions", "game:test-game:config", "game:test-game:owners",
+                "game:test-game:players");
+        assertThat(args.getValue()).containsExactly("game:test-game:player:", "PACKED", "UP", "50");
+    }
+
+    @Test
+    void gameScripts_shouldLoadCommonPreludeAndAction() {
+        for (GameScript script : GameScript.values()) {
+            String text = script.getScript().getScriptAsString();
+            assertThat(text).contains("local function set_region").contains("return result(");
+            assertThat(script.getScript().getSha1()).hasSize(40);
+        }
+        assertThat(GameScript.RELOCATE.getScript().getScriptAsString()).contains("hex_distance(center_row");
+    }
+
+    @Test
+    void runScript_shouldTreatEmptyReplyAsZero() {
+        assertThat(GameScript.Result.of(null)).isEqualTo(new GameScript.Result(0, List.of()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.state.region.Region;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegionFormatTest {
+
+    private final Supplier<List<String>> players = () -> List.of("player1", "player2");
+
+    @Test
+    void packed_shouldEncodeDepositAndOwnerSlotInOneNumber() {
+        assertThat(RegionFormat.PACKED.encode(100, "player2", players)).isEqualTo(100L * 256 + 2);
+        assertThat(RegionFormat.PACKED.encode(100, null, players)).isEqualTo(100L * 256);
+    }
+
+    @Test
+    void packed_shouldFallBackToJson_whenOwnerIsNotAPlayer() {
+        Object encoded = RegionFormat.PACKED.encode(100, "stranger", players);
+
+        assertThat(encoded).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) encoded).get("owner")).isEqualTo("stranger");
+    }
+
+    @Test
+    void decode_shouldReadPackedValues() {
+        Region region = RegionFormat.decode(100 * 256 + 1, 1000L, 2, 3, players);
+
+        assertThat(region.getDeposit()).isEqualTo(100);
+        assertThat(region.getOwner()).isEqualTo("player1");
+        assertThat(region.getRow()).isEqualTo(2);
+        assertThat(region.getCol()).isEqualTo(3);
+    }
+
+    @Test
+    void decode_shouldReadLegacyJsonMaps() {
+        Object encoded = RegionFormat.JSON.encode(75, "player2", players);
+
+        Region region = RegionFormat.decode(encoded, 1000L, 1, 1, () -> {
+            throw new AssertionError("players are not needed for JSON regions");
+        });
+
+        assertThat(region.getDeposit()).isEqualTo(75);
+        assertThat(region.getOwner()).isEqualTo("player2");
+    }
+
+    @Test
+    void decode_shouldRoundTripPackedWasteland() {
+        Object encoded = RegionFormat.PACKED.encode(0, null, players);
+
+        Region region = RegionFormat.decode(encoded, 1000L, 1, 1, players);
+
+        assertThat(region.getDeposit()).isZero();
+        assertThat(region.getOwner()).isNull();
+    }
+
+    @Test
+    void decode_shouldRejectOwnerSlotsPastTheOwnerTable() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> RegionFormat.decode(100 * 256 + 3, 1000L, 2, 3, players));
+
+        assertThat(error).hasMessageContaining("2:3").hasMessageContaining("slot 3");
+    }
+
+    @Test
+    void of_shouldIgnoreCase() {
+        assertThat(RegionFormat.of("packed")).isEqualTo(RegionFormat.PACKED);
+        assertThat(RegionFormat.of(" JSON ")).isEqualTo(RegionFormat.JSON);
+        assertThrows(IllegalArgumentException.class, () -> RegionFormat.of("xml"));
+    }
+}
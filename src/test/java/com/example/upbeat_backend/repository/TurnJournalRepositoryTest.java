@@ -0,0 +1,129 @@
+package com.example.upbeat_backend.repository;
+
+import com.example.upbeat_backend.game.dto.response.event.EventData;
+import com.example.upbeat_backend.game.dto.response.event.GameEvent;
+import com.example.upbeat_backend.game.dto.response.journal.JournalEntryDTO;
+import com.example.upbeat_backend.game.model.Position;
+import com.example.upbeat_backend.game.model.enums.EventType;
+import com.example.upbeat_backend.game.model.enums.GameStatus;
+import com.example.upbeat_backend.game.model.enums.JournalEntryType;
+import com.example.upbeat_backend.game.model.enums.Keyword;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TurnJournalRepositoryTest {
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private TurnJournalRepository journal;
+
+    private final String gameId = "test-game";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        journal = new TurnJournalRepository(redisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void append_shouldKeyEntryBySequenceAndRoundTripEvents() {
+        JournalEntryDTO entry = JournalEntryDTO.builder()
+                .type(JournalEntryType.TURN)
+                .sequence(7)
+                .turn(3)
+                .playerId("p1")
+                .nextPlayerId("p2")
+                .planHash("abc")
+                .gameStatus(GameStatus.IN_PROGRESS)
+                .events(List.of(
+                        new GameEvent(EventType.MOVE, new EventData.Move(Keyword.UP, true, new Position(4, 5)), 100L),
+                        new GameEvent(EventType.INVEST, new EventData.Invest(50, true, new Position(4, 5)), 101L)))
+                .regions(Map.of("4:5", new JournalEntryDTO.RegionState(50, "p1")))
+                .players(List.of(new JournalEntryDTO.PlayerState("p1", "Alice", 900, 5, 5)))
+                .build();
+
+        journal.append(gameId, entry);
+
+        ArgumentCaptor<MapRecord<String, Object, Object>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(captor.capture());
+        MapRecord<String, Object, Object> record = captor.getValue();
+        assertThat(record.getStream()).isEqualTo("game:test-game:journal");
+        assertThat(record.getId()).isEqualTo(RecordId.of(7, 1));
+        assertThat(record.getValue()).containsEntry("type", "TURN");
+
+        when(streamOperations.range("game:test-game:journal", Range.closed("5", "9"))).thenReturn(List.of(record));
+
+        List<JournalEntryDTO> entries = journal.getEntries(gameId, 5, 9);
+
+        assertThat(entries).singleElement().satisfies(read -> {
+            assertThat(read.getSequence()).isEqualTo(7);
+            assertThat(read.getPlayerId()).isEqualTo("p1");
+            assertThat(read.getEvents()).containsExactlyElementsOf(entry.getEvents());
+            assertThat(read.getRegions()).containsEntry("4:5", new JournalEntryDTO.RegionState(50, "p1"));
+            assertThat(read.getPlayers()).containsExactlyElementsOf(entry.getPlayers());
+        });
+    }
+
+    @Test
+    void savePlan_shouldStorePlanOnceUnderItsHash() {
+        String hash = journal.savePlan(gameId, "done");
+
+        assertThat(hash).hasSize(64).isEqualTo(TurnJournalRepository.planHash("done"));
+        verify(hashOperations).putIfAbsent("game:test-game:journal:plans", hash, "done");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendToBatch_shouldDeferRecordAndPlanToTheBatch() {
+        GameWriteBatch batch = mock(GameWriteBatch.class);
+        JournalEntryDTO entry = JournalEntryDTO.builder()
+                .type(JournalEntryType.TURN)
+                .sequence(9)
+                .turn(4)
+                .build();
+
+        String hash = journal.savePlan(batch, gameId, "done");
+        journal.append(batch, gameId, entry);
+
+        verify(batch).putIfAbsent("game:test-game:journal:plans", hash, "done");
+        ArgumentCaptor<MapRecord<String, String, Object>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(batch).addRecord(captor.capture());
+        assertThat(captor.getValue().getStream()).isEqualTo("game:test-game:journal");
+        assertThat(captor.getValue().getId()).isEqualTo(RecordId.of(9, 1));
+        verifyNoInteractions(streamOperations, hashOperations);
+    }
+
+    @Test
+    void getEntries_shouldReturnEmptyListForMissingStream() {
+        when(streamOperations.range(any(), any())).thenReturn(null);
+
+        assertThat(journal.getEntries(gameId, 0, 10)).isEmpty();
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.upbeat_backend.security;
 
+import com.example.upbeat_backend.model.enums.AccountStatus;
 import com.example.upbeat_backend.security.jwt.JwtAuthenticationFilter;
 import com.example.upbeat_backend.security.jwt.JwtTokenProvider;
 import com.example.upbeat_backend.security.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +21,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 
@@ -44,8 +48,7 @@ class JwtAuthenticationFilterTest {
     @Test
     void doFilterInternal_ValidToken() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(tokenProvider.getUserIdFromToken("valid-token")).thenReturn("1");
+        when(tokenProvider.parseClaims("valid-token")).thenReturn(claimsFor("1"));
 
         UserDetails userDetails = mock(UserDetails.class);
         when(customUserDetailsService.loadUserById("1")).thenReturn(userDetails);
@@ -55,6 +58,28 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void doFilterInternal_StatelessPrincipal_SkipsUserLookup() throws ServletException, IOException {
+        SecurityContext securityContext = mock(SecurityContext.class);
+        SecurityContextHolder.setContext(securityContext);
+
+        Claims claims = claimsFor("1");
+        UserPrincipal principal = UserPrincipal.create("1", "testUser", "test@example.com", "ADMIN", List.of("user_view"),
+                AccountStatus.ACTIVE);
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(tokenProvider.parseClaims("valid-token")).thenReturn(claims);
+        when(tokenProvider.getPrincipal(claims)).thenReturn(principal);
+
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        verify(securityContext).setAuthentication(argThat(auth -> auth.getPrincipal() == principal));
+        verify(customUserDetailsService, never()).loadUserById(anyString());
+        verify(tokenProvider, times(1)).parseClaims("valid-token");
+        verify(filterChain).doFilter(request, response);
+
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void doFilterInternal_NoToken() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn(null);
@@ -67,12 +92,12 @@ class JwtAuthenticationFilterTest {
     @Test
     void doFilterInternal_InvalidToken() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-token");
-        when(tokenProvider.validateToken("invalid-token")).thenReturn(false);
+        when(tokenProvider.parseClaims("invalid-token")).thenReturn(null);
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(tokenProvider, never()).getUserIdFromToken(anyString());
+        verify(tokenProvider, never()).getPrincipal(any());
         verify(customUserDetailsService, never()).loadUserById(anyString());
     }
 
@@ -83,14 +108,13 @@ class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).parseClaims(anyString());
     }
 
     @Test
     void doFilterInternal_ExceptionThrown() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(tokenProvider.getUserIdFromToken("valid-token")).thenReturn("1");
+        when(tokenProvider.parseClaims("valid-token")).thenReturn(claimsFor("1"));
         when(customUserDetailsService.loadUserById("1")).thenThrow(new RuntimeException("User not found"));
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -104,8 +128,7 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.setContext(securityContext);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(tokenProvider.getUserIdFromToken("valid-token")).thenReturn("1");
+        when(tokenProvider.parseClaims("valid-token")).thenReturn(claimsFor("1"));
 
         UserDetails userDetails = mock(UserDetails.class);
         when(customUserDetailsService.loadUserById("1")).thenReturn(userDetails);
@@ -117,4 +140,8 @@ class JwtAuthenticationFilterTest {
 
         SecurityContextHolder.clearContext();
     }
+
+    private static Claims claimsFor(String userId) {
+        return Jwts.claims().setSubject(userId);
+    }
 }
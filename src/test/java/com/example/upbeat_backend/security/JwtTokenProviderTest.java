@@ -1,6 +1,10 @@
 package com.example.upbeat_backend.security;
 
+import com.example.upbeat_backend.model.Role;
 import com.example.upbeat_backend.model.User;
+import com.example.upbeat_backend.model.enums.AccountStatus;
+import com.example.upbeat_backend.security.service.RoleVersions;
+import io.jsonwebtoken.Claims;
 import com.example.upbeat_backend.security.jwt.JwtTokenProvider;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,15 +12,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKey;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
+    @Mock
+    private RoleVersions roleVersions;
+
     @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
 
@@ -90,4 +102,73 @@ class JwtTokenProviderTest {
     void getUserIdFromToken_InvalidToken() {
         assertThrows(Exception.class, () -> jwtTokenProvider.getUserIdFromToken("invalid.token"));
     }
+
+    @Test
+    void getPrincipal_StatelessMode_BuildsAuthoritiesFromClaims() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", true);
+        when(roleVersions.isCurrent("role-1", 3L)).thenReturn(true);
+
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.generateToken(userWithRole()));
+        UserPrincipal principal = jwtTokenProvider.getPrincipal(claims);
+
+        assertNotNull(principal);
+        assertEquals("1", principal.getId());
+        assertEquals("testUser", principal.getUsername());
+        assertEquals(Set.of("ADMIN", "user_view"),
+                principal.getAuthorities().stream().map(Object::toString).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void getPrincipal_StaleRoleVersion_ReturnsNull() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", true);
+
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.generateToken(userWithRole()));
+        when(roleVersions.isCurrent("role-1", 3L)).thenReturn(false);
+
+        assertNull(jwtTokenProvider.getPrincipal(claims));
+    }
+
+    @Test
+    void getPrincipal_StatelessMode_CarriesAccountStatus() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", true);
+        when(roleVersions.isCurrent("role-1", 3L)).thenReturn(true);
+        User user = userWithRole();
+        user.setStatus(AccountStatus.SUSPENDED);
+
+        UserPrincipal principal = jwtTokenProvider.getPrincipal(
+                jwtTokenProvider.parseClaims(jwtTokenProvider.generateToken(user)));
+
+        assertNotNull(principal);
+        assertFalse(principal.isAccountNonLocked());
+        assertFalse(principal.isEnabled());
+    }
+
+    @Test
+    void getPrincipal_StatelessModeDisabled_ReturnsNull() {
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.generateToken(userWithRole()));
+
+        assertNull(claims.get("permissions"));
+        assertNull(jwtTokenProvider.getPrincipal(claims));
+    }
+
+    @Test
+    void parseClaims_InvalidToken() {
+        assertNull(jwtTokenProvider.parseClaims("invalid.token.string"));
+    }
+
+    private static User userWithRole() {
+        Role role = Role.builder()
+                .id("role-1")
+                .name("ADMIN")
+                .permissions(Map.of("user_view", true, "user_edit", false))
+                .version(3L)
+                .build();
+        return User.builder()
+                .id("1")
+                .username("testUser")
+                .email("test@example.com")
+                .status(AccountStatus.ACTIVE)
+                .role(role)
+                .build();
+    }
 }
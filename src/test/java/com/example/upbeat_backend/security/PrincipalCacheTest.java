@@ -0,0 +1,87 @@
+package com.example.upbeat_backend.security;
+
+import com.example.upbeat_backend.security.service.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+    private Clock clock;
+    private PrincipalCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = id -> {
+        loads.incrementAndGet();
+        return mock(UserDetails.class);
+    };
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        cache = new PrincipalCache(2, Duration.ofSeconds(60), clock);
+    }
+
+    @Test
+    void getOrLoad_CachesUntilTtlExpires() {
+        UserDetails first = cache.getOrLoad("1", loader);
+
+        when(clock.millis()).thenReturn(59_999L);
+        assertSame(first, cache.getOrLoad("1", loader));
+        assertEquals(1, loads.get());
+
+        when(clock.millis()).thenReturn(60_000L);
+        assertNotSame(first, cache.getOrLoad("1", loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_ForcesReload() {
+        cache.getOrLoad("1", loader);
+        cache.getOrLoad("2", loader);
+
+        cache.evict("1");
+        cache.getOrLoad("1", loader);
+        cache.getOrLoad("2", loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictAll_ForcesReloadOfEveryUser() {
+        cache.getOrLoad("1", loader);
+        cache.getOrLoad("2", loader);
+
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+        cache.getOrLoad("2", loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getOrLoad_IsBoundedBySize() {
+        cache.getOrLoad("1", loader);
+        cache.getOrLoad("2", loader);
+        cache.getOrLoad("3", loader);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void getOrLoad_DoesNotCacheFailures() {
+        assertThrows(UsernameNotFoundException.class, () -> cache.getOrLoad("1", id -> {
+            throw new UsernameNotFoundException("User not found with id: " + id);
+        }));
+
+        assertEquals(0, cache.size());
+    }
+}
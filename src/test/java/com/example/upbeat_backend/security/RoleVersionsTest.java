@@ -0,0 +1,90 @@
+package com.example.upbeat_backend.security;
+
+import com.example.upbeat_backend.model.Role;
+import com.example.upbeat_backend.repository.RoleRepository;
+import com.example.upbeat_backend.security.service.RoleVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoleVersionsTest {
+    private RoleRepository roleRepository;
+    private RoleVersions roleVersions;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        roleVersions = new RoleVersions(roleRepository);
+        roleVersions.setTtlMs(60_000);
+    }
+
+    @Test
+    void seed_LoadsEveryRoleVersion() {
+        when(roleRepository.findAll()).thenReturn(List.of(
+                Role.builder().id("role-1").version(2L).build(),
+                Role.builder().id("role-2").version(0L).build()));
+
+        roleVersions.seed();
+
+        assertTrue(roleVersions.isCurrent("role-1", 2L));
+        assertTrue(roleVersions.isCurrent("role-2", 0L));
+        verify(roleRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void isCurrent_RejectsOlderVersionWithoutReload() {
+        roleVersions.update("role-1", 2L);
+
+        assertFalse(roleVersions.isCurrent("role-1", 1L));
+        verify(roleRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void isCurrent_ReloadsWhenTokenIsNewerThanCache() {
+        roleVersions.update("role-1", 1L);
+        when(roleRepository.findVersionById("role-1")).thenReturn(Optional.of(2L));
+
+        assertTrue(roleVersions.isCurrent("role-1", 2L));
+        assertFalse(roleVersions.isCurrent("role-1", 1L));
+        verify(roleRepository, times(1)).findVersionById("role-1");
+    }
+
+    @Test
+    void isCurrent_RejectsVersionAheadOfStoredRole() {
+        roleVersions.update("role-1", 1L);
+        when(roleRepository.findVersionById("role-1")).thenReturn(Optional.of(1L));
+
+        assertFalse(roleVersions.isCurrent("role-1", 5L));
+    }
+
+    @Test
+    void isCurrent_ReloadsAfterTtl() {
+        roleVersions.setTtlMs(0);
+        roleVersions.update("role-1", 1L);
+        when(roleRepository.findVersionById("role-1")).thenReturn(Optional.of(2L));
+
+        assertFalse(roleVersions.isCurrent("role-1", 1L));
+        verify(roleRepository).findVersionById("role-1");
+    }
+
+    @Test
+    void isCurrent_RejectsMissingRole() {
+        when(roleRepository.findVersionById("role-1")).thenReturn(Optional.empty());
+
+        assertFalse(roleVersions.isCurrent("role-1", 0L));
+    }
+
+    @Test
+    void evict_ForcesReload() {
+        roleVersions.update("role-1", 1L);
+        roleVersions.evict("role-1");
+        when(roleRepository.findVersionById("role-1")).thenReturn(Optional.empty());
+
+        assertFalse(roleVersions.isCurrent("role-1", 1L));
+    }
+}
@@ -9,6 +9,8 @@ import com.example.upbeat_backend.model.User;
 import com.example.upbeat_backend.model.enums.ActionType;
 import com.example.upbeat_backend.repository.RoleRepository;
 import com.example.upbeat_backend.repository.UserRepository;
+import com.example.upbeat_backend.security.service.PrincipalCache;
+import com.example.upbeat_backend.security.service.RoleVersions;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +56,12 @@ public class RoleServiceTest {
     @Mock
     private RoleAuditLogService roleAuditLogService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private RoleVersions roleVersions;
+
     @InjectMocks
     private RoleService roleService;
 
@@ -203,6 +211,7 @@ public class RoleServiceTest {
 
         assertEquals("Role deleted successfully.", result);
         verify(roleRepository).delete(mockRole);
+        verify(roleVersions).evict(roleId);
         verify(roleAuditLogService).saveRoleAuditLog(eq(ActionType.DELETE), eq(roleId), eq(mockUser));
     }
 
@@ -281,7 +290,9 @@ public class RoleServiceTest {
 
         assertEquals("Role name updated successfully.", result);
         assertEquals(newName, mockRole.getName());
+        assertEquals(1L, mockRole.getVersion());
         verify(roleRepository).save(mockRole);
+        verify(roleVersions).update(roleId, 1L);
         verify(roleAuditLogService).saveRoleAuditLog(eq(ActionType.UPDATE_NAME), eq(roleId), eq(mockUser));
     }
 
@@ -411,6 +422,9 @@ public class RoleServiceTest {
         assertEquals("Role permissions updated successfully.", result);
         assertEquals(newPermissions, mockRole.getPermissions());
         verify(roleRepository).save(mockRole);
+        assertEquals(1L, mockRole.getVersion());
+        verify(roleVersions).update(roleId, 1L);
+        verify(principalCache).evictAll();
         verify(roleAuditLogService).saveRoleAuditLog(eq(ActionType.UPDATE_PERMISSIONS), eq(roleId), eq(mockUser));
     }
 
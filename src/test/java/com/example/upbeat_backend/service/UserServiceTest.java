@@ -5,6 +5,7 @@ import com.example.upbeat_backend.exception.auth.AuthException;
 import com.example.upbeat_backend.exception.user.UserException;
 import com.example.upbeat_backend.model.User;
 import com.example.upbeat_backend.repository.UserRepository;
+import com.example.upbeat_backend.security.service.PrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -32,6 +33,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @Test
     void ChangePassword_Success() {
         String userId = "testUserId";
@@ -55,6 +59,7 @@ public class UserServiceTest {
         assertEquals("Password changed successfully", result);
         assertEquals("encodedNewPassword", user.getPassword());
         verify(userRepository).save(user);
+        verify(principalCache).evict(userId);
     }
 
     @Test